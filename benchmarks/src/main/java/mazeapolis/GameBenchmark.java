@@ -0,0 +1,117 @@
+package mazeapolis;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmark {
+	private static final long SEED = 20221017;
+
+	@Param({ "15", "63", "201" })
+	public int boardSize;
+
+	private Game game;
+	private char[] moveCycle; // P1 there, P2 there, P1 back, P2 back
+	private int[] encodedMoveCycle; // moveCycle as Game.applyMove bits
+	private int moveIndex;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		this.game = new Game(this.boardSize, this.boardSize, SEED);
+		this.game.initialize();
+
+		final char player1Key = firstMoveKey(this.game);
+		this.game.makeMove(player1Key);
+
+		final char player2Key = firstMoveKey(this.game);
+		this.game.makeMove(player2Key);
+
+		// Both players shuttle between two cells, so the board stays the same however long the benchmark runs
+		this.moveCycle = new char[] {
+				Cordinate.Direction.fromKey(player1Key).opposite().getKey(),
+				Cordinate.Direction.fromKey(player2Key).opposite().getKey(),
+				player1Key,
+				player2Key
+		};
+		this.encodedMoveCycle = new int[this.moveCycle.length];
+
+		for (int index = 0; index < this.moveCycle.length; index++) {
+			this.encodedMoveCycle[index] = Game.moveFromKey(this.moveCycle[index]);
+		}
+
+		this.moveIndex = 0;
+		this.game.setMoveHistoryLimit(64); // Keeps the history from growing with the iteration count
+	}
+
+	private static char firstMoveKey(final Game game) {
+		for (final char key : game.viableMoveKeys()) {
+			if (key != 'x') {
+				return key;
+			}
+		}
+
+		throw new IllegalStateException("Benchmark board has no opening move, pick another seed");
+	}
+
+	@Benchmark
+	public Game initialize() {
+		final Game freshGame = new Game(this.boardSize, this.boardSize, SEED);
+		freshGame.initialize();
+
+		return freshGame;
+	}
+
+	@Benchmark
+	public ArrayList<Game.GameMove> viableMoves() {
+		return this.game.viableMoves();
+	}
+
+	@Benchmark
+	public int viableMoveMask() {
+		return this.game.viableMoveMask();
+	}
+
+	@Benchmark
+	public boolean applyMove() {
+		final boolean moved = this.game.applyMove(this.encodedMoveCycle[this.moveIndex]);
+		this.moveIndex = (this.moveIndex + 1) & 3;
+
+		return moved;
+	}
+
+	@Benchmark
+	public boolean makeMove() {
+		final boolean moved = this.game.makeMove(this.moveCycle[this.moveIndex]);
+		this.moveIndex = (this.moveIndex + 1) & 3;
+
+		return moved;
+	}
+
+	@Benchmark
+	public String[] renderLines() {
+		return this.game.renderLines();
+	}
+
+	@Benchmark
+	public String gameToString() {
+		return this.game.toString();
+	}
+}
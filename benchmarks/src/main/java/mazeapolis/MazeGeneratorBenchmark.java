@@ -0,0 +1,39 @@
+package mazeapolis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeGeneratorBenchmark {
+	@Param({ "31", "201", "1001" })
+	public int size;
+
+	@Param({ "division", "kruskal", "backtracker", "wilson", "eller" })
+	public String algorithm;
+
+	private long seed = 0;
+
+	@Benchmark
+	public MazeGenerator generate() {
+		final MazeGenerator maze = new MazeGenerator(this.size, this.size, this.seed++,
+				MazeAlgorithm.byName(this.algorithm));
+		maze.generate();
+
+		return maze;
+	}
+}
@@ -0,0 +1,58 @@
+package mazeapolis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Whole board reachability from one corner, cell by cell and 64 cells at a time
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReachabilityBenchmark {
+	private static final long SEED = 20221017;
+
+	@Param({ "201", "1001", "2001" })
+	public int size;
+
+	private CellGrid cells;
+	private Bitboard passable;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final MazeGenerator maze = new MazeGenerator(this.size, this.size, SEED);
+		maze.generate();
+
+		this.cells = new CellGrid(this.size, this.size);
+		this.cells.addWalls(maze.getGrid());
+		this.passable = Bitboard.passable(maze.getGrid());
+	}
+
+	@Benchmark
+	public DistanceField breadthFirstSearch() {
+		return new DistanceField(this.cells, 0, 0);
+	}
+
+	@Benchmark
+	public Bitboard floodFill() {
+		return this.passable.floodFill(0, 0);
+	}
+
+	@Benchmark
+	public Bitboard deadEnds() {
+		return this.passable.deadEnds();
+	}
+}
@@ -0,0 +1,44 @@
+// Depth-first recursive backtracker, driven from an int stack of cells instead of recursion
+public final class BacktrackerAlgorithm extends CarvingMazeAlgorithm {
+	public static final String NAME = "backtracker";
+
+	public String getName() {
+		return NAME;
+	}
+
+	protected void carve(final RandomSource random) {
+		final int cells = this.cellCount();
+		final long[] visited = new long[(cells + 63) >>> 6];
+		final int[] stack = new int[cells];
+		final int[] choices = new int[4];
+		int stackSize = 0;
+
+		stack[stackSize++] = 0;
+		visited[0] |= 1L;
+		this.openCell(0);
+
+		while (stackSize != 0) {
+			final int cell = stack[stackSize - 1];
+			int choiceCount = 0;
+
+			for (int direction = NORTH; direction <= WEST; direction++) {
+				final int next = this.neighbour(cell, direction);
+
+				if (next != -1 && (visited[next >>> 6] & (1L << next)) == 0) {
+					choices[choiceCount++] = next;
+				}
+			}
+
+			if (choiceCount == 0) {
+				stackSize--;
+				continue;
+			}
+
+			final int next = choices[random.nextInt(choiceCount)];
+
+			visited[next >>> 6] |= 1L << next;
+			this.openPassage(cell, next);
+			stack[stackSize++] = next;
+		}
+	}
+}
\ No newline at end of file
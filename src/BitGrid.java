@@ -0,0 +1,246 @@
+public final class BitGrid {
+	private static final int WORD_SHIFT = 6; // 64 bits per word
+	private static final long WORD_MASK = 63;
+
+	private final int rows;
+	private final int columns;
+	private final GridStorage words; // Rows are stored back to back, one bit per cell
+
+	public BitGrid(final int rows, final int columns) {
+		this(rows, columns, GridStorage.Backend.Heap);
+	}
+
+	public BitGrid(final int rows, final int columns, final GridStorage.Backend backend) {
+		if (rows < 0 || columns < 0) {
+			throw new IllegalArgumentException("Grid dimensions must not be negative");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.words = backend.allocate(((long) rows * columns + WORD_MASK) >>> WORD_SHIFT);
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public GridStorage.Backend getBackend() {
+		return this.words.getBackend();
+	}
+
+	public long getWordCount() {
+		return this.words.getWordCount();
+	}
+
+	// Word i holds cells [64 * i, 64 * i + 64), lowest bit first
+	public long getWord(final long wordIndex) {
+		return this.words.getWord(wordIndex);
+	}
+
+	public void setWord(final long wordIndex, final long word) {
+		this.words.setWord(wordIndex, word);
+	}
+
+	// 64 cells starting at any index, lowest bit first, the cells past the end of the grid read as clear
+	public long getBits(final long index) {
+		final long wordIndex = index >>> WORD_SHIFT;
+		final int offset = (int) (index & WORD_MASK);
+		final long low = (wordIndex < this.words.getWordCount()) ? this.words.getWord(wordIndex) >>> offset : 0;
+
+		if (offset == 0 || wordIndex + 1 >= this.words.getWordCount()) {
+			return low;
+		}
+
+		return low | (this.words.getWord(wordIndex + 1) << (64 - offset));
+	}
+
+	public boolean inBounds(final int x, final int y) {
+		return 0 <= x && x < this.columns &&
+				0 <= y && y < this.rows;
+	}
+
+	public long index(final int x, final int y) {
+		return (long) y * this.columns + x;
+	}
+
+	public boolean get(final long index) {
+		return (this.words.getWord(index >>> WORD_SHIFT) & (1L << index)) != 0;
+	}
+
+	public boolean get(final int x, final int y) {
+		return this.get(this.index(x, y));
+	}
+
+	public void set(final long index, final boolean value) {
+		this.applyMask(index >>> WORD_SHIFT, 1L << index, value);
+	}
+
+	public void set(final int x, final int y, final boolean value) {
+		this.set(this.index(x, y), value);
+	}
+
+	// Sets every cell in [fromIndex, toIndex) a whole word at a time where possible
+	public void setRange(final long fromIndex, final long toIndex, final boolean value) {
+		if (fromIndex >= toIndex) {
+			return;
+		}
+
+		final long firstWord = fromIndex >>> WORD_SHIFT;
+		final long lastWord = (toIndex - 1) >>> WORD_SHIFT;
+		final long firstMask = -1L << fromIndex;
+		final long lastMask = -1L >>> -toIndex;
+
+		if (firstWord == lastWord) {
+			this.applyMask(firstWord, firstMask & lastMask, value);
+			return;
+		}
+
+		this.applyMask(firstWord, firstMask, value);
+
+		for (long wordIndex = firstWord + 1; wordIndex < lastWord; wordIndex++) {
+			this.words.setWord(wordIndex, value ? -1L : 0L);
+		}
+
+		this.applyMask(lastWord, lastMask, value);
+	}
+
+	// Safe while other threads write different bits of the same words
+	public void setConcurrent(final long index, final boolean value) {
+		this.applyMaskConcurrent(index >>> WORD_SHIFT, 1L << index, value);
+	}
+
+	// Only the two edge words can be shared with other writers, the words in between are written directly
+	public void setRangeConcurrent(final long fromIndex, final long toIndex, final boolean value) {
+		if (fromIndex >= toIndex) {
+			return;
+		}
+
+		final long firstWord = fromIndex >>> WORD_SHIFT;
+		final long lastWord = (toIndex - 1) >>> WORD_SHIFT;
+		final long firstMask = -1L << fromIndex;
+		final long lastMask = -1L >>> -toIndex;
+
+		if (firstWord == lastWord) {
+			this.applyMaskConcurrent(firstWord, firstMask & lastMask, value);
+			return;
+		}
+
+		this.applyMaskConcurrent(firstWord, firstMask, value);
+
+		for (long wordIndex = firstWord + 1; wordIndex < lastWord; wordIndex++) {
+			this.words.setWord(wordIndex, value ? -1L : 0L);
+		}
+
+		this.applyMaskConcurrent(lastWord, lastMask, value);
+	}
+
+	public void fill(final boolean value) {
+		this.setRange(0, (long) this.rows * this.columns, value);
+	}
+
+	public long countSet() {
+		long count = 0;
+
+		for (long wordIndex = 0; wordIndex < this.words.getWordCount(); wordIndex++) {
+			count += Long.bitCount(this.words.getWord(wordIndex));
+		}
+
+		return count;
+	}
+
+	// Set cells in [fromIndex, toIndex), a whole word at a time
+	public long countSet(final long fromIndex, final long toIndex) {
+		if (fromIndex >= toIndex) {
+			return 0;
+		}
+
+		final long firstWord = fromIndex >>> WORD_SHIFT;
+		final long lastWord = (toIndex - 1) >>> WORD_SHIFT;
+		final long firstMask = -1L << fromIndex;
+		final long lastMask = -1L >>> -toIndex;
+
+		if (firstWord == lastWord) {
+			return Long.bitCount(this.words.getWord(firstWord) & firstMask & lastMask);
+		}
+
+		long count = Long.bitCount(this.words.getWord(firstWord) & firstMask)
+				+ Long.bitCount(this.words.getWord(lastWord) & lastMask);
+
+		for (long wordIndex = firstWord + 1; wordIndex < lastWord; wordIndex++) {
+			count += Long.bitCount(this.words.getWord(wordIndex));
+		}
+
+		return count;
+	}
+
+	// First set cell at or after fromIndex and before toIndex, -1 when there is none
+	public long nextSet(final long fromIndex, final long toIndex) {
+		if (fromIndex >= toIndex) {
+			return -1;
+		}
+
+		final long lastWord = (toIndex - 1) >>> WORD_SHIFT;
+		long wordIndex = fromIndex >>> WORD_SHIFT;
+		long word = this.words.getWord(wordIndex) & (-1L << fromIndex);
+
+		while (word == 0) {
+			if (++wordIndex > lastWord) {
+				return -1;
+			}
+
+			word = this.words.getWord(wordIndex);
+		}
+
+		final long found = (wordIndex << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+
+		return (found < toIndex) ? found : -1;
+	}
+
+	// Last set cell at or before fromIndex and at or after toIndex, -1 when there is none
+	public long previousSet(final long fromIndex, final long toIndex) {
+		if (fromIndex < toIndex) {
+			return -1;
+		}
+
+		final long lastWord = toIndex >>> WORD_SHIFT;
+		long wordIndex = fromIndex >>> WORD_SHIFT;
+		long word = this.words.getWord(wordIndex) & (-1L >>> ~fromIndex);
+
+		while (word == 0) {
+			if (--wordIndex < lastWord) {
+				return -1;
+			}
+
+			word = this.words.getWord(wordIndex);
+		}
+
+		final long found = (wordIndex << WORD_SHIFT) + WORD_MASK - Long.numberOfLeadingZeros(word);
+
+		return (found >= toIndex) ? found : -1;
+	}
+
+	// Approximate footprint of the cell data in bytes, on or off the heap depending on the backend
+	public long sizeInBytes() {
+		return this.words.getWordCount() * Long.BYTES;
+	}
+
+	private void applyMaskConcurrent(final long wordIndex, final long mask, final boolean value) {
+		if (value) {
+			this.words.orWordConcurrent(wordIndex, mask);
+		}
+
+		else {
+			this.words.andWordConcurrent(wordIndex, ~mask);
+		}
+	}
+
+	private void applyMask(final long wordIndex, final long mask, final boolean value) {
+		final long word = this.words.getWord(wordIndex);
+
+		this.words.setWord(wordIndex, value ? (word | mask) : (word & ~mask));
+	}
+}
\ No newline at end of file
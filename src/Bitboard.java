@@ -0,0 +1,236 @@
+/**
+ * One bit per cell of a board, each row starting on a fresh word so that a cell's neighbours above and below are in
+ * the same bit of the words above and below it. Built from a board's walls as the set of passable cells, it answers
+ * reachability and dead end questions 64 cells per operation: floodFill() spreads along a whole run of passable
+ * cells of a row with one addition per word, instead of visiting the cells one by one like DistanceField
+ */
+public final class Bitboard {
+	private static final int WORD_SHIFT = 6; // 64 bits per word
+	private static final long WORD_MASK = 63;
+
+	private final int rows;
+	private final int columns;
+	private final int wordsPerRow;
+	private final long[] words; // Row y starts at word y * wordsPerRow, bits past the last column are clear
+
+	public Bitboard(final int rows, final int columns) {
+		if (rows < 0 || columns < 0) {
+			throw new IllegalArgumentException("Grid dimensions must not be negative");
+		}
+
+		final long wordCount = (long) rows * ((columns + WORD_MASK) >>> WORD_SHIFT);
+
+		if (wordCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException(rows + " by " + columns + " cells do not fit in a bitboard");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.wordsPerRow = (int) ((columns + WORD_MASK) >>> WORD_SHIFT);
+		this.words = new long[(int) wordCount];
+	}
+
+	// Every cell of the board that is not a wall
+	public static Bitboard passable(final CellGrid cells) {
+		final Bitboard board = new Bitboard(cells.getRows(), cells.getColumns());
+
+		for (int rowIndex = 0; rowIndex < board.rows; rowIndex++) {
+			final long rowStart = cells.index(0, rowIndex);
+
+			for (int columnIndex = 0; columnIndex < board.columns; columnIndex++) {
+				if (cells.get(rowStart + columnIndex) != CellGrid.WALL) {
+					board.words[board.wordIndex(columnIndex, rowIndex)] |= 1L << columnIndex;
+				}
+			}
+		}
+
+		return board;
+	}
+
+	// Every Blank cell of a generated maze, copied 64 cells at a time
+	public static Bitboard passable(final BitGrid maze) {
+		final Bitboard board = new Bitboard(maze.getRows(), maze.getColumns());
+
+		for (int rowIndex = 0; rowIndex < board.rows; rowIndex++) {
+			final long rowStart = maze.index(0, rowIndex);
+
+			for (int wordInRow = 0; wordInRow < board.wordsPerRow; wordInRow++) {
+				final long blocks = maze.getBits(rowStart + ((long) wordInRow << WORD_SHIFT));
+
+				board.words[rowIndex * board.wordsPerRow + wordInRow] = ~blocks & board.columnMask(wordInRow);
+			}
+		}
+
+		return board;
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public int getWordsPerRow() {
+		return this.wordsPerRow;
+	}
+
+	// Word wordInRow of the row, lowest bit first
+	public long getWord(final int rowIndex, final int wordInRow) {
+		return this.words[rowIndex * this.wordsPerRow + wordInRow];
+	}
+
+	public boolean get(final int x, final int y) {
+		return (this.words[this.wordIndex(x, y)] & (1L << x)) != 0;
+	}
+
+	public void set(final int x, final int y, final boolean value) {
+		if (value) {
+			this.words[this.wordIndex(x, y)] |= 1L << x;
+		}
+
+		else {
+			this.words[this.wordIndex(x, y)] &= ~(1L << x);
+		}
+	}
+
+	public long count() {
+		long count = 0;
+
+		for (int wordIndex = 0; wordIndex < this.words.length; wordIndex++) {
+			count += Long.bitCount(this.words[wordIndex]);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Every set cell connected to x, y through set cells above, below, left or right of each other, empty when x, y
+	 * is not set. Works on whole words: a word takes in the reached cells next to it and spreads them along each
+	 * run of set cells in it at once. A word is visited again only when a word next to it changed
+	 */
+	public Bitboard floodFill(final int x, final int y) {
+		final Bitboard reached = new Bitboard(this.rows, this.columns);
+
+		if (!this.get(x, y)) {
+			return reached;
+		}
+
+		final int[] pendingWords = new int[this.words.length]; // Every word is pending at most once at a time
+		final boolean[] isPending = new boolean[this.words.length];
+		int pendingCount = 0;
+		boolean isStart = true; // The start cell itself has to spread too
+
+		reached.set(x, y, true);
+		pendingWords[pendingCount++] = this.wordIndex(x, y);
+		isPending[this.wordIndex(x, y)] = true;
+
+		while (pendingCount > 0) {
+			final int wordIndex = pendingWords[--pendingCount];
+			isPending[wordIndex] = false;
+
+			final long grown = this.spreadIntoWord(reached, wordIndex);
+			final long spreading = isStart ? grown : grown & ~reached.words[wordIndex];
+
+			isStart = false;
+
+			if (spreading == 0) {
+				continue;
+			}
+
+			reached.words[wordIndex] = grown;
+
+			final int wordInRow = wordIndex % this.wordsPerRow;
+
+			// Only the neighbours the new cells touch can grow from them
+			if (wordIndex >= this.wordsPerRow && (spreading & this.words[wordIndex - this.wordsPerRow]
+					& ~reached.words[wordIndex - this.wordsPerRow]) != 0 && !isPending[wordIndex - this.wordsPerRow]) {
+				pendingWords[pendingCount++] = wordIndex - this.wordsPerRow;
+				isPending[wordIndex - this.wordsPerRow] = true;
+			}
+
+			if (wordIndex + this.wordsPerRow < this.words.length && (spreading & this.words[wordIndex + this.wordsPerRow]
+					& ~reached.words[wordIndex + this.wordsPerRow]) != 0 && !isPending[wordIndex + this.wordsPerRow]) {
+				pendingWords[pendingCount++] = wordIndex + this.wordsPerRow;
+				isPending[wordIndex + this.wordsPerRow] = true;
+			}
+
+			if (wordInRow > 0 && (spreading & 1) != 0 && !isPending[wordIndex - 1]) {
+				pendingWords[pendingCount++] = wordIndex - 1;
+				isPending[wordIndex - 1] = true;
+			}
+
+			if (wordInRow < this.wordsPerRow - 1 && spreading < 0 && !isPending[wordIndex + 1]) { // Top bit set
+				pendingWords[pendingCount++] = wordIndex + 1;
+				isPending[wordIndex + 1] = true;
+			}
+		}
+
+		return reached;
+	}
+
+	public boolean isReachable(final int fromX, final int fromY, final int toX, final int toY) {
+		return this.floodFill(fromX, fromY).get(toX, toY);
+	}
+
+	// Set cells with at most one set neighbour: the ends of corridors and cells walled in on every side
+	public Bitboard deadEnds() {
+		final Bitboard ends = new Bitboard(this.rows, this.columns);
+
+		for (int rowIndex = 0; rowIndex < this.rows; rowIndex++) {
+			for (int wordInRow = 0; wordInRow < this.wordsPerRow; wordInRow++) {
+				final int wordIndex = rowIndex * this.wordsPerRow + wordInRow;
+				final long cells = this.words[wordIndex];
+				final long north = (rowIndex > 0) ? this.words[wordIndex - this.wordsPerRow] : 0;
+				final long south = (rowIndex < this.rows - 1) ? this.words[wordIndex + this.wordsPerRow] : 0;
+				final long west = (cells << 1)
+						| ((wordInRow > 0) ? this.words[wordIndex - 1] >>> WORD_MASK : 0); // Cell x - 1 in bit x
+				final long east = (cells >>> 1)
+						| ((wordInRow < this.wordsPerRow - 1) ? this.words[wordIndex + 1] << WORD_MASK : 0);
+
+				final long atLeastTwo = (north & (south | east | west)) | (south & (east | west)) | (east & west);
+
+				ends.words[wordIndex] = cells & ~atLeastTwo;
+			}
+		}
+
+		return ends;
+	}
+
+	// The word's reached cells once it takes in the reached cells next to it and spreads them along its runs
+	private long spreadIntoWord(final Bitboard reached, final int wordIndex) {
+		final int wordInRow = wordIndex % this.wordsPerRow;
+		final long run = this.words[wordIndex];
+		final long north = (wordIndex >= this.wordsPerRow) ? reached.words[wordIndex - this.wordsPerRow] : 0;
+		final long south = (wordIndex + this.wordsPerRow < this.words.length)
+				? reached.words[wordIndex + this.wordsPerRow] : 0;
+		final long west = (wordInRow > 0) ? reached.words[wordIndex - 1] >>> 63 : 0; // Into bit 0
+		final long east = (wordInRow < this.wordsPerRow - 1) ? reached.words[wordIndex + 1] << 63 : 0; // Into bit 63
+		final long seeds = (reached.words[wordIndex] | north | south | west | east) & run;
+
+		if (seeds == 0) {
+			return 0;
+		}
+
+		// Adding a seed bit to a run of set bits carries through the rest of the run above it, reversing the words
+		// does the same for the rest below it
+		final long upward = ((run + seeds) ^ run | seeds) & run;
+		final long reversedRun = Long.reverse(run);
+		final long reversedSeeds = Long.reverse(seeds);
+		final long downward = Long.reverse(((reversedRun + reversedSeeds) ^ reversedRun | reversedSeeds) & reversedRun);
+
+		return upward | downward;
+	}
+
+	private int wordIndex(final int x, final int y) {
+		return y * this.wordsPerRow + (x >>> WORD_SHIFT);
+	}
+
+	// Bits of the columns that exist in word wordInRow of a row
+	private long columnMask(final int wordInRow) {
+		final int columnsLeft = this.columns - (wordInRow << WORD_SHIFT);
+
+		return (columnsLeft >= 64) ? -1L : (1L << columnsLeft) - 1;
+	}
+}
\ No newline at end of file
@@ -22,42 +22,73 @@ public class Bonus extends Entity {
 		}
 	};
 
+	// A bonus is fully described by its code: type ordinal in bits 5-6, the mystery flag in bit 4
+	// and the value in bits 0-3. Codes fit in 7 bits, see CellGrid.bonusCell
+	private static final int MYSTERY_FLAG = 1 << 4;
+	private static final int TYPE_SHIFT = 5;
+	private static final Bonus[] FLYWEIGHTS = new Bonus[BonusType.values().length << TYPE_SHIFT];
+
+	static {
+		for (int code = 0; code < FLYWEIGHTS.length; code++) {
+			FLYWEIGHTS[code] = new Bonus(code);
+		}
+	}
+
 	private final BonusType bonusType;
 	private final boolean isMysteryBonus;
 	private final int bonusValue;
 
 	public Bonus() {
+		this(RandomSource.THREAD_LOCAL);
+	}
+
+	public Bonus(final RandomSource random) {
+		this(randomCode(random));
+	}
+
+	private Bonus(final int code) {
 		super();
 
-		final int bonusTypeDecider = MazeGenerator.discreteRandInclusive(0, 10);
+		this.bonusType = BonusType.values()[code >>> TYPE_SHIFT];
+		this.isMysteryBonus = (code & MYSTERY_FLAG) != 0;
+		this.bonusValue = code & (MYSTERY_FLAG - 1);
+	}
 
-		if (MazeGenerator.discreteRandInclusive(0, 3) == 0 || bonusTypeDecider >= 8) {
-			this.isMysteryBonus = true;
-		}
+	// Shared instance for a code, bonuses hold no mutable state
+	public static Bonus of(final int code) {
+		return FLYWEIGHTS[code];
+	}
 
-		else {
-			this.isMysteryBonus = false;
-		}
+	public static int encode(final BonusType bonusType, final boolean isMysteryBonus, final int bonusValue) {
+		return (bonusType.ordinal() << TYPE_SHIFT) | (isMysteryBonus ? MYSTERY_FLAG : 0) | bonusValue;
+	}
+
+	// Draws a bonus the same way the constructor does without creating one
+	public static int randomCode(final RandomSource random) {
+		final int bonusTypeDecider = MazeGenerator.discreteRandInclusive(random, 0, 10);
+		final boolean isMysteryBonus = MazeGenerator.discreteRandInclusive(random, 0, 3) == 0 || bonusTypeDecider >= 8;
 
 		if (bonusTypeDecider < 4) {
-			this.bonusType = BonusType.Add;
-			this.bonusValue = MazeGenerator.discreteRandInclusive(1, 9);
+			return encode(BonusType.Add, isMysteryBonus, MazeGenerator.discreteRandInclusive(random, 1, 9));
 		}
 
 		else if (bonusTypeDecider < 6) {
-			this.bonusType = BonusType.Multiply;
-			this.bonusValue = MazeGenerator.discreteRandInclusive(2, 3);
+			return encode(BonusType.Multiply, isMysteryBonus, MazeGenerator.discreteRandInclusive(random, 2, 3));
 		}
 
 		else if (bonusTypeDecider < 8) {
-			this.bonusType = BonusType.Add;
-			this.bonusValue = MazeGenerator.discreteRandInclusive(2, 3);
+			return encode(BonusType.Add, isMysteryBonus, MazeGenerator.discreteRandInclusive(random, 2, 3));
 		}
 
-		else {
-			this.bonusType = BonusType.Subtract;
-			this.bonusValue = MazeGenerator.discreteRandInclusive(1, 9);
-		}
+		return encode(BonusType.Subtract, isMysteryBonus, MazeGenerator.discreteRandInclusive(random, 1, 9));
+	}
+
+	public int getCode() {
+		return encode(this.bonusType, this.isMysteryBonus, this.bonusValue);
+	}
+
+	public boolean getIsMysteryBonus() {
+		return this.isMysteryBonus;
 	}
 
 	public Color[][] renderColors() {
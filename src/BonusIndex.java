@@ -0,0 +1,167 @@
+// Which cells of a board hold a bonus, as one bit per cell with a live count, so bonuses can be found, counted and
+// removed without looking at every cell. Kept up to date by Game, see Game.getBonuses()
+public final class BonusIndex {
+	private final BitGrid cells; // A set bit is a cell with a bonus, CellGrid indices
+	private long count;
+
+	public BonusIndex(final int rows, final int columns, final GridStorage.Backend backend) {
+		this.cells = new BitGrid(rows, columns, backend);
+	}
+
+	public BonusIndex(final BonusIndex original) {
+		this(original.getRows(), original.getColumns(), original.cells.getBackend());
+
+		for (long wordIndex = 0; wordIndex < original.cells.getWordCount(); wordIndex++) {
+			this.cells.setWord(wordIndex, original.cells.getWord(wordIndex));
+		}
+
+		this.count = original.count;
+	}
+
+	public int getRows() {
+		return this.cells.getRows();
+	}
+
+	public int getColumns() {
+		return this.cells.getColumns();
+	}
+
+	public long getCount() {
+		return this.count;
+	}
+
+	public boolean contains(final long cellIndex) {
+		return this.cells.get(cellIndex);
+	}
+
+	public boolean contains(final int x, final int y) {
+		return this.cells.get(x, y);
+	}
+
+	public void add(final long cellIndex) {
+		if (!this.cells.get(cellIndex)) {
+			this.cells.set(cellIndex, true);
+			this.count++;
+		}
+	}
+
+	public void remove(final long cellIndex) {
+		if (this.cells.get(cellIndex)) {
+			this.cells.set(cellIndex, false);
+			this.count--;
+		}
+	}
+
+	public void clear() {
+		if (this.count != 0) {
+			this.cells.fill(false);
+			this.count = 0;
+		}
+	}
+
+	// Indexes every bonus of the grid from scratch, eight cells per word read
+	public void rebuild(final CellGrid grid) {
+		this.cells.fill(false);
+		this.count = 0;
+
+		for (long wordIndex = 0; wordIndex < grid.getWordCount(); wordIndex++) {
+			long bonusBytes = CellGrid.bonusBits(grid.getWord(wordIndex));
+
+			while (bonusBytes != 0) {
+				final long cellIndex = wordIndex * CellGrid.CELLS_PER_WORD
+						+ (Long.numberOfTrailingZeros(bonusBytes) >>> 3); // Byte of the lowest bonus flag
+
+				if (cellIndex < grid.getCellCount()) {
+					this.cells.set(cellIndex, true);
+					this.count++;
+				}
+
+				bonusBytes &= bonusBytes - 1;
+			}
+		}
+	}
+
+	// First cell with a bonus at or after fromIndex, -1 when there is none. Walks every bonus when started from 0
+	public long next(final long fromIndex) {
+		return this.cells.nextSet(fromIndex, (long) this.getRows() * this.getColumns());
+	}
+
+	// Bonuses in the rectangle of columns by rows cells whose upper left corner is x, y, clipped to the board.
+	// Counts 64 cells per word read
+	public long countInRegion(final int x, final int y, final int columns, final int rows) {
+		final int fromX = Math.max(x, 0);
+		final int toX = Math.min(x + columns, this.getColumns());
+		final int fromY = Math.max(y, 0);
+		final int toY = Math.min(y + rows, this.getRows());
+
+		if (fromX >= toX) {
+			return 0;
+		}
+
+		long regionCount = 0;
+
+		for (int rowIndex = fromY; rowIndex < toY; rowIndex++) {
+			regionCount += this.cells.countSet(this.cells.index(fromX, rowIndex), this.cells.index(toX, rowIndex));
+		}
+
+		return regionCount;
+	}
+
+	/**
+	 * PackedCordinate of the bonus closest to x, y counting steps along rows and columns, ignoring walls, -1 when
+	 * no bonus is left. Rows are searched outward from y, a word at a time within each row, until no closer bonus
+	 * can be found
+	 */
+	public long nearest(final int x, final int y) {
+		if (this.count == 0) {
+			return -1;
+		}
+
+		long nearestBonus = -1;
+		long nearestDistance = Long.MAX_VALUE;
+
+		for (int rowOffset = 0; rowOffset < nearestDistance; rowOffset++) {
+			final boolean hasRowAbove = y - rowOffset >= 0;
+			final boolean hasRowBelow = y + rowOffset < this.getRows();
+
+			if (!hasRowAbove && !hasRowBelow) {
+				break;
+			}
+
+			for (int side = 0; side < ((rowOffset == 0) ? 1 : 2); side++) {
+				final int rowIndex = (side == 0) ? y - rowOffset : y + rowOffset;
+
+				if (rowIndex < 0 || rowIndex >= this.getRows()) {
+					continue;
+				}
+
+				final int column = this.nearestInRow(rowIndex, x);
+
+				if (column >= 0 && rowOffset + Math.abs(column - x) < nearestDistance) {
+					nearestBonus = PackedCordinate.pack(column, rowIndex);
+					nearestDistance = rowOffset + Math.abs(column - x);
+				}
+			}
+		}
+
+		return nearestBonus;
+	}
+
+	// Column of the bonus in the row closest to x, -1 when the row has none
+	private int nearestInRow(final int rowIndex, final int x) {
+		final long rowStart = this.cells.index(0, rowIndex);
+		final long clampedX = Math.min(Math.max(x, 0), this.getColumns() - 1);
+		final long right = this.cells.nextSet(rowStart + clampedX, rowStart + this.getColumns());
+		final long left = this.cells.previousSet(rowStart + clampedX, rowStart);
+
+		if (left < 0) {
+			return (right < 0) ? -1 : (int) (right - rowStart);
+		}
+
+		if (right < 0 || x - (left - rowStart) <= (right - rowStart) - x) {
+			return (int) (left - rowStart);
+		}
+
+		return (int) (right - rowStart);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+// Base for algorithms that start from a solid grid and carve passages between cells.
+// Cells sit on even cordinates and are numbered row by row, the odd cordinates between them are walls.
+public abstract class CarvingMazeAlgorithm implements MazeAlgorithm {
+	public static final int NORTH = 0;
+	public static final int EAST = 1;
+	public static final int SOUTH = 2;
+	public static final int WEST = 3;
+
+	protected BitGrid grid;
+	protected int cellColumns;
+	protected int cellRows;
+
+	public final void generate(final MazeGenerator maze) {
+		this.grid = maze.getGrid();
+		this.cellColumns = (this.grid.getColumns() + 1) / 2;
+		this.cellRows = (this.grid.getRows() + 1) / 2;
+
+		if (this.cellColumns == 0 || this.cellRows == 0) {
+			return;
+		}
+
+		this.grid.fill(true);
+		this.carve(maze.getRandom());
+		this.grid = null;
+	}
+
+	// Must open every cell, either directly or through openPassage
+	protected abstract void carve(RandomSource random);
+
+	protected final int cellCount() {
+		return this.cellColumns * this.cellRows;
+	}
+
+	// Returns -1 when the neighbour would be outside the maze
+	protected final int neighbour(final int cell, final int direction) {
+		final int cellX = cell % this.cellColumns;
+		final int cellY = cell / this.cellColumns;
+
+		switch (direction) {
+			case NORTH:
+				return (cellY == 0) ? -1 : cell - this.cellColumns;
+			case EAST:
+				return (cellX == this.cellColumns - 1) ? -1 : cell + 1;
+			case SOUTH:
+				return (cellY == this.cellRows - 1) ? -1 : cell + this.cellColumns;
+			case WEST:
+				return (cellX == 0) ? -1 : cell - 1;
+		}
+
+		return -1;
+	}
+
+	protected final void openCell(final int cell) {
+		this.grid.set(cell % this.cellColumns * 2, cell / this.cellColumns * 2, false);
+	}
+
+	// Opens both cells and the wall between them, the cells must be neighbours
+	protected final void openPassage(final int cell, final int otherCell) {
+		final int x = cell % this.cellColumns * 2;
+		final int y = cell / this.cellColumns * 2;
+		final int otherX = otherCell % this.cellColumns * 2;
+		final int otherY = otherCell / this.cellColumns * 2;
+
+		this.grid.set(x, y, false);
+		this.grid.set((x + otherX) / 2, (y + otherY) / 2, false);
+		this.grid.set(otherX, otherY, false);
+	}
+}
\ No newline at end of file
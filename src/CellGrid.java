@@ -0,0 +1,131 @@
+// One byte per cell holding its type, eight cells to a storage word. Bonus cells carry their Bonus code
+// in the low bits, so no per cell objects are needed, see Game.at() for how types map back to entities
+public final class CellGrid {
+	public static final byte EMPTY = 0;
+	public static final byte WALL = 1;
+	public static final byte ENDPOINT1 = 2;
+	public static final byte ENDPOINT2 = 3;
+	public static final byte PLAYER1 = 4;
+	public static final byte PLAYER2 = 5;
+
+	public static final int CELLS_PER_WORD = 8; // Cell i of word w is cell 8 * w + i, held in bits 8 * i to 8 * i + 7
+
+	private static final int BONUS_FLAG = 0x80; // Bonus cells are the negative bytes
+	private static final long BONUS_BYTES = 0x8080808080808080L; // The bonus flag of all 8 cells of a word
+
+	private static final int CELL_SHIFT = 3; // 8 cells per word
+	private static final long CELL_MASK = 7;
+
+	private final int rows;
+	private final int columns;
+	private final GridStorage words;
+
+	public CellGrid(final int rows, final int columns) {
+		this(rows, columns, GridStorage.Backend.Heap);
+	}
+
+	public CellGrid(final int rows, final int columns, final GridStorage.Backend backend) {
+		if (rows < 0 || columns < 0) {
+			throw new IllegalArgumentException("Grid dimensions must not be negative");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.words = backend.allocate(((long) rows * columns + CELL_MASK) >>> CELL_SHIFT);
+	}
+
+	// A copy with its own storage on the same backend
+	public CellGrid(final CellGrid original) {
+		this(original.rows, original.columns, original.getBackend());
+
+		for (long wordIndex = 0; wordIndex < original.words.getWordCount(); wordIndex++) {
+			this.words.setWord(wordIndex, original.words.getWord(wordIndex));
+		}
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public GridStorage.Backend getBackend() {
+		return this.words.getBackend();
+	}
+
+	public long getCellCount() {
+		return (long) this.rows * this.columns;
+	}
+
+	public long getWordCount() {
+		return this.words.getWordCount();
+	}
+
+	// Word i holds cells [8 * i, 8 * i + 8), lowest byte first
+	public long getWord(final long wordIndex) {
+		return this.words.getWord(wordIndex);
+	}
+
+	public void setWord(final long wordIndex, final long word) {
+		this.words.setWord(wordIndex, word);
+	}
+
+	public long index(final int x, final int y) {
+		return (long) y * this.columns + x;
+	}
+
+	public byte get(final long index) {
+		return (byte) (this.words.getWord(index >>> CELL_SHIFT) >>> ((index & CELL_MASK) << 3));
+	}
+
+	public byte get(final int x, final int y) {
+		return this.get(this.index(x, y));
+	}
+
+	public void set(final long index, final byte cell) {
+		final long wordIndex = index >>> CELL_SHIFT;
+		final int shift = (int) ((index & CELL_MASK) << 3);
+		final long word = this.words.getWord(wordIndex);
+
+		this.words.setWord(wordIndex, (word & ~(0xFFL << shift)) | ((cell & 0xFFL) << shift));
+	}
+
+	public void set(final int x, final int y, final byte cell) {
+		this.set(this.index(x, y), cell);
+	}
+
+	public void fill(final byte cell) {
+		this.words.fill((cell & 0xFFL) * 0x0101010101010101L);
+	}
+
+	// Every set bit of the wall grid becomes a WALL cell, the grids must have the same dimensions
+	public void addWalls(final BitGrid walls) {
+		for (long wordIndex = 0; wordIndex < walls.getWordCount(); wordIndex++) {
+			long word = walls.getWord(wordIndex);
+
+			while (word != 0) {
+				this.set((wordIndex << 6) + Long.numberOfTrailingZeros(word), WALL);
+				word &= word - 1;
+			}
+		}
+	}
+
+	// Only the top bit of each bonus cell of the word, every other bit cleared
+	public static long bonusBits(final long word) {
+		return word & BONUS_BYTES;
+	}
+
+	public static boolean isBonus(final byte cell) {
+		return cell < 0;
+	}
+
+	public static byte bonusCell(final int bonusCode) {
+		return (byte) (BONUS_FLAG | bonusCode);
+	}
+
+	public static int bonusCode(final byte cell) {
+		return cell & ~BONUS_FLAG & 0xFF;
+	}
+}
\ No newline at end of file
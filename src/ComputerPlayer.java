@@ -0,0 +1,466 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Computer opponent: iterative deepening alpha-beta search under a time budget per move. The root moves, or the root
+ * moves and their replies when the pool has threads to spare, are searched in a thread pool on reused copies of the
+ * game, with a transposition table shared by all of them. Positions are scored by the difference in points and in
+ * maze distance to the opponent's endpoint
+ */
+public final class ComputerPlayer implements AutoCloseable {
+	public static final long DEFAULT_TIME_BUDGET_MILLIS = 50;
+
+	private static final int WIN_SCORE = 1_000_000;
+	private static final int POINT_WEIGHT = 16; // A point is worth 16 steps
+	private static final int DISTANCE_WEIGHT = 1;
+	private static final int UNREACHABLE_DISTANCE = 1 << 16;
+	private static final int POINTS_LIMIT = 1 << 12; // Keeps scores far from WIN_SCORE and from overflowing
+	private static final int MAX_DEPTH = 100;
+	private static final int NODES_PER_CLOCK_CHECK = 1024;
+	private static final int TABLE_SIZE_IN_BYTES = 16 << 20;
+
+	// Moves are tried in this order after the transposition table's best move, wasting a point last
+	private static final int[] MOVE_ORDER = {
+			Game.MOVE_NORTH, Game.MOVE_EAST, Game.MOVE_SOUTH, Game.MOVE_WEST, Game.MOVE_WASTE
+	};
+
+	private static final int MAX_THREADS = MOVE_ORDER.length * MOVE_ORDER.length; // One per root move and reply
+
+	private static final SearchTimeout TIMEOUT = new SearchTimeout();
+
+	private final ForkJoinPool pool;
+	private final long timeBudgetNanos;
+	private final TranspositionTable table = new TranspositionTable(TABLE_SIZE_IN_BYTES);
+
+	// Kept between moves of the same game, see prepare()
+	private Game preparedGame;
+	private final ConcurrentLinkedQueue<Game> searchCopies = new ConcurrentLinkedQueue<Game>(); // Idle, undo enabled
+	private DistanceField toEndpoint1; // Player2's goal, shared with the game
+	private DistanceField toEndpoint2; // Player1's goal
+
+	public ComputerPlayer() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_TIME_BUDGET_MILLIS);
+	}
+
+	// More threads than MAX_THREADS would never have a search to run
+	public ComputerPlayer(final int threads, final long timeBudgetMillis) {
+		if (threads < 1 || timeBudgetMillis < 1) {
+			throw new IllegalArgumentException("A computer player needs at least one thread and one millisecond");
+		}
+
+		this.pool = new ForkJoinPool(Math.min(threads, MAX_THREADS));
+		this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+	}
+
+	public int getThreads() {
+		return this.pool.getParallelism();
+	}
+
+	public long getTimeBudgetMillis() {
+		return this.timeBudgetNanos / 1_000_000;
+	}
+
+	/**
+	 * Gets ready to play the game: forgets the last game's transposition table, measures the game's distance fields
+	 * and copies the game once per thread. Meant for the start of a game, where its cost does not count against a
+	 * move. The game is not changed
+	 */
+	public void prepare(final Game game) {
+		this.preparedGame = game;
+		this.table.clear();
+
+		this.toEndpoint1 = game.getEndpointDistances(Game.PlayerIdentifier.P1);
+		this.toEndpoint2 = game.getEndpointDistances(Game.PlayerIdentifier.P2);
+
+		this.searchCopies.clear();
+
+		for (int copyIndex = 0; copyIndex < this.getThreads(); copyIndex++) {
+			this.searchCopies.add(searchCopy(game));
+		}
+	}
+
+	/**
+	 * A Game.applyMove bit for the player whose turn it is, 0 when that player has no move. The game itself is not
+	 * changed. Returns within the time budget once the game is prepared. For any other game prepare() runs first and
+	 * counts against the budget, which it can use up on large boards
+	 */
+	public int chooseMove(final Game game) {
+		final long deadline = System.nanoTime() + this.timeBudgetNanos - this.timeBudgetNanos / 8; // Room to stop
+		final int moveMask = game.viableMoveMask();
+
+		if (Integer.bitCount(moveMask) <= 1) {
+			return moveMask;
+		}
+
+		if (game != this.preparedGame) {
+			this.prepare(game);
+		}
+
+		else {
+			this.synchronize(game);
+		}
+
+		final boolean isMaximizing = game.getTurn() == Game.PlayerIdentifier.P1;
+		int bestMove = firstMove(moveMask & ~Game.MOVE_WASTE);
+
+		for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+			final List<Searcher> searches = this.searchesAt(depth, moveMask, deadline);
+			final List<Future<Integer>> results = this.pool.invokeAll(searches);
+
+			// A root move's value is the best of its replies for the player who answers it
+			final int[] rootValues = new int[MOVE_ORDER.length];
+			final boolean[] isSearched = new boolean[MOVE_ORDER.length];
+			boolean isComplete = true;
+
+			for (int searchIndex = 0; searchIndex < results.size(); searchIndex++) {
+				final Searcher searcher = searches.get(searchIndex);
+				final Integer value = resultOf(results.get(searchIndex));
+
+				if (value == null) {
+					isComplete = false;
+					break;
+				}
+
+				if (!isSearched[searcher.rootIndex]
+						|| (searcher.isReplyMaximizing ? value > rootValues[searcher.rootIndex]
+								: value < rootValues[searcher.rootIndex])) {
+					rootValues[searcher.rootIndex] = value;
+					isSearched[searcher.rootIndex] = true;
+				}
+			}
+
+			if (!isComplete) {
+				break; // The unfinished depth could have missed a refutation, keep the last finished one
+			}
+
+			int depthBestMove = 0;
+			int depthBestValue = 0;
+
+			for (int rootIndex = 0; rootIndex < MOVE_ORDER.length; rootIndex++) {
+				final int value = rootValues[rootIndex];
+
+				if (isSearched[rootIndex]
+						&& (depthBestMove == 0 || (isMaximizing ? value > depthBestValue : value < depthBestValue))) {
+					depthBestMove = MOVE_ORDER[rootIndex];
+					depthBestValue = value;
+				}
+			}
+
+			bestMove = depthBestMove;
+
+			if (Math.abs(depthBestValue) >= WIN_SCORE - MAX_DEPTH || System.nanoTime() > deadline) {
+				break;
+			}
+		}
+
+		return bestMove;
+	}
+
+	@Override
+	public void close() {
+		this.pool.shutdownNow();
+	}
+
+	// One search per root move, or one per root move and reply when there are fewer root moves than threads
+	private List<Searcher> searchesAt(final int depth, final int moveMask, final long deadline) {
+		final List<Searcher> searches = new ArrayList<Searcher>();
+		final boolean isSplittingReplies = depth > 1 && Integer.bitCount(moveMask) < this.getThreads();
+		final Game game = this.borrowCopy();
+
+		try {
+			for (int rootIndex = 0; rootIndex < MOVE_ORDER.length; rootIndex++) {
+				final int rootMove = MOVE_ORDER[rootIndex];
+
+				if ((moveMask & rootMove) == 0) {
+					continue;
+				}
+
+				int replyMask = 0;
+				boolean isReplyMaximizing = false;
+
+				if (isSplittingReplies) {
+					game.applyMove(rootMove);
+					replyMask = game.getIsRunning() ? game.viableMoveMask() : 0;
+					isReplyMaximizing = game.getTurn() == Game.PlayerIdentifier.P1; // Not always the other player
+					game.unmakeMove();
+				}
+
+				if (replyMask == 0) { // Finished games and players without a move are scored by the search itself
+					searches.add(new Searcher(rootIndex, 0, false, depth, deadline));
+					continue;
+				}
+
+				for (final int replyMove : MOVE_ORDER) {
+					if ((replyMask & replyMove) != 0) {
+						searches.add(new Searcher(rootIndex, replyMove, isReplyMaximizing, depth, deadline));
+					}
+				}
+			}
+		}
+
+		finally {
+			this.searchCopies.add(game);
+		}
+
+		return searches;
+	}
+
+	// An idle search copy, or a new one when every copy is busy
+	private Game borrowCopy() {
+		final Game copy = this.searchCopies.poll();
+
+		return (copy != null) ? copy : searchCopy(this.preparedGame);
+	}
+
+	// Brings the idle copies to the game's position, replaying the moves played since the last search
+	private void synchronize(final Game game) {
+		for (int copyIndex = this.searchCopies.size(); copyIndex > 0; copyIndex--) {
+			this.searchCopies.add(synchronizedCopy(this.searchCopies.poll(), game));
+		}
+	}
+
+	// The history keeps the latest moves even under a limit, a full copy is only needed when it kept too few
+	private static Game synchronizedCopy(final Game copy, final Game game) {
+		final MoveHistory gameHistory = game.getMoveHistory();
+		final long newMoves = gameHistory.getAddedCount() - copy.getMoveHistory().getAddedCount();
+
+		if (newMoves >= 0 && newMoves <= gameHistory.size()) {
+			copy.setUndoEnabled(false); // The replayed moves do not need to be taken back
+
+			for (int moveIndex = gameHistory.size() - (int) newMoves; moveIndex < gameHistory.size(); moveIndex++) {
+				final long record = gameHistory.get(moveIndex);
+
+				copy.applyMove(MoveHistory.isWaste(record) ? Game.MOVE_WASTE : Game.moveOf(MoveHistory.direction(record)));
+			}
+
+			copy.setUndoEnabled(true);
+
+			if (copy.getZobristHash() == game.getZobristHash() && copy.getMoveCount() == game.getMoveCount()) {
+				return copy;
+			}
+		}
+
+		return searchCopy(game);
+	}
+
+	private static Game searchCopy(final Game game) {
+		final Game copy = new Game(game);
+		copy.setUndoEnabled(true);
+
+		return copy;
+	}
+
+	private static Integer resultOf(final Future<Integer> result) {
+		try {
+			return result.get();
+		}
+
+		catch (final InterruptedException error) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+
+		catch (final ExecutionException error) {
+			throw new IllegalStateException("Search failed", error.getCause());
+		}
+	}
+
+	private static int firstMove(final int moveMask) {
+		return Integer.lowestOneBit(moveMask);
+	}
+
+	// Thrown out of the search when the deadline passes, no stack trace to fill in
+	private static final class SearchTimeout extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		SearchTimeout() {
+			super(null, null, false, false);
+		}
+	}
+
+	// Searches a root move, and a reply to it unless replyMove is 0, to the depth given on a borrowed copy of the
+	// game. Returns null when the deadline passed
+	private final class Searcher implements Callable<Integer> {
+		private final int rootIndex;
+		private final int replyMove;
+		private final boolean isReplyMaximizing; // Whether the player answering the root move is Player1
+		private final int depth;
+		private final long deadline;
+		private Game game;
+		private int nodesUntilClockCheck = NODES_PER_CLOCK_CHECK;
+
+		Searcher(final int rootIndex, final int replyMove, final boolean isReplyMaximizing, final int depth,
+				final long deadline) {
+			this.rootIndex = rootIndex;
+			this.replyMove = replyMove;
+			this.isReplyMaximizing = isReplyMaximizing;
+			this.depth = depth;
+			this.deadline = deadline;
+		}
+
+		@Override
+		public Integer call() {
+			this.game = borrowCopy();
+
+			final int baseUndoDepth = this.game.getUndoDepth();
+
+			try {
+				this.game.applyMove(MOVE_ORDER[this.rootIndex]);
+
+				if (this.replyMove == 0) {
+					return this.search(this.depth - 1, -Integer.MAX_VALUE, Integer.MAX_VALUE);
+				}
+
+				this.game.applyMove(this.replyMove);
+
+				return this.search(this.depth - 2, -Integer.MAX_VALUE, Integer.MAX_VALUE);
+			}
+
+			catch (final SearchTimeout timeout) {
+				return null;
+			}
+
+			finally {
+				while (this.game.getUndoDepth() > baseUndoDepth) {
+					this.game.unmakeMove();
+				}
+
+				searchCopies.add(this.game);
+			}
+		}
+
+		// Minimax with alpha-beta pruning, values are from Player1's side
+		private int search(final int depth, int alpha, int beta) {
+			if (--this.nodesUntilClockCheck == 0) {
+				this.nodesUntilClockCheck = NODES_PER_CLOCK_CHECK;
+
+				if (System.nanoTime() > this.deadline) {
+					throw TIMEOUT;
+				}
+			}
+
+			if (!this.game.getIsRunning()) {
+				return this.scoreFinishedGame(depth);
+			}
+
+			final boolean isMaximizing = this.game.getTurn() == Game.PlayerIdentifier.P1;
+			final int moveMask = this.game.viableMoveMask();
+
+			if (moveMask == 0) { // The player to move loses
+				return isMaximizing ? -WIN_SCORE - depth : WIN_SCORE + depth;
+			}
+
+			if (depth == 0) {
+				return this.evaluate();
+			}
+
+			final long key = this.game.getZobristHash();
+			final long entry = table.probe(key);
+			int tableMove = 0;
+
+			if (entry != TranspositionTable.MISS) {
+				tableMove = TranspositionTable.bestMove(entry) & moveMask;
+
+				if (TranspositionTable.depth(entry) >= depth) {
+					final int tableValue = TranspositionTable.value(entry);
+
+					switch (TranspositionTable.bound(entry)) {
+						case TranspositionTable.BOUND_EXACT:
+							return tableValue;
+						case TranspositionTable.BOUND_LOWER:
+							alpha = Math.max(alpha, tableValue);
+							break;
+						case TranspositionTable.BOUND_UPPER:
+							beta = Math.min(beta, tableValue);
+							break;
+					}
+
+					if (alpha >= beta) {
+						return tableValue;
+					}
+				}
+			}
+
+			final int originalAlpha = alpha;
+			final int originalBeta = beta;
+			int bestValue = isMaximizing ? -Integer.MAX_VALUE : Integer.MAX_VALUE;
+			int bestMove = 0;
+
+			for (int orderIndex = -1; orderIndex < MOVE_ORDER.length; orderIndex++) {
+				final int move = (orderIndex < 0) ? tableMove : MOVE_ORDER[orderIndex];
+
+				if (move == 0 || (moveMask & move) == 0 || (orderIndex >= 0 && move == tableMove)) {
+					continue;
+				}
+
+				this.game.applyMove(move);
+				final int value = this.search(depth - 1, alpha, beta);
+				this.game.unmakeMove();
+
+				if (isMaximizing ? value > bestValue : value < bestValue) {
+					bestValue = value;
+					bestMove = move;
+				}
+
+				if (isMaximizing) {
+					alpha = Math.max(alpha, value);
+				}
+
+				else {
+					beta = Math.min(beta, value);
+				}
+
+				if (alpha >= beta) {
+					break;
+				}
+			}
+
+			final int bound = (bestValue <= originalAlpha) ? TranspositionTable.BOUND_UPPER
+					: (bestValue >= originalBeta) ? TranspositionTable.BOUND_LOWER
+							: TranspositionTable.BOUND_EXACT;
+
+			table.store(key, depth, bestValue, bound, bestMove);
+
+			return bestValue;
+		}
+
+		// Sooner wins score higher, depth is what was left of the search
+		private int scoreFinishedGame(final int depth) {
+			switch (this.game.getWinner()) {
+				case P1:
+					return WIN_SCORE + depth;
+				case P2:
+					return -WIN_SCORE - depth;
+				default:
+					return 0;
+			}
+		}
+
+		private int evaluate() {
+			final int player1Points = clampPoints(this.game.getPoints(Game.PlayerIdentifier.P1));
+			final int player2Points = clampPoints(this.game.getPoints(Game.PlayerIdentifier.P2));
+
+			final int player1Distance = this.game.getIsFinished(Game.PlayerIdentifier.P1) ? 0
+					: distance(toEndpoint2, this.game.getPackedPlayerPosition(Game.PlayerIdentifier.P1));
+			final int player2Distance = this.game.getIsFinished(Game.PlayerIdentifier.P2) ? 0
+					: distance(toEndpoint1, this.game.getPackedPlayerPosition(Game.PlayerIdentifier.P2));
+
+			return POINT_WEIGHT * (player1Points - player2Points) - DISTANCE_WEIGHT * (player1Distance - player2Distance);
+		}
+	}
+
+	private static int distance(final DistanceField field, final long packedPosition) {
+		final int distance = field.distance(packedPosition);
+
+		return (distance == DistanceField.UNREACHABLE) ? UNREACHABLE_DISTANCE : distance;
+	}
+
+	private static int clampPoints(final int points) {
+		return Math.max(-POINTS_LIMIT, Math.min(points, POINTS_LIMIT));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+import java.util.Arrays;
+
+// Number of steps from every cell to one target cell, found by a breadth first search around the walls.
+// Players, bonuses and endpoints do not block, so the field stays valid for the whole game
+public final class DistanceField {
+	public static final int UNREACHABLE = -1;
+
+	private final int columns;
+	private final int targetX;
+	private final int targetY;
+	private final int[] distances; // Row major, one per cell
+
+	public DistanceField(final CellGrid cells, final int targetX, final int targetY) {
+		final long cellCount = cells.getCellCount();
+
+		if (cellCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException(cellCount + " cells do not fit in a distance field");
+		}
+
+		this.columns = cells.getColumns();
+		this.targetX = targetX;
+		this.targetY = targetY;
+		this.distances = new int[(int) cellCount];
+
+		Arrays.fill(this.distances, UNREACHABLE);
+
+		if (cells.get(targetX, targetY) != CellGrid.WALL) {
+			this.search(cells);
+		}
+	}
+
+	public int getTargetX() {
+		return this.targetX;
+	}
+
+	public int getTargetY() {
+		return this.targetY;
+	}
+
+	// UNREACHABLE for walls and for cells walled off from the target
+	public int distance(final int x, final int y) {
+		return this.distances[y * this.columns + x];
+	}
+
+	public int distance(final long packedCordinate) {
+		return this.distance(PackedCordinate.x(packedCordinate), PackedCordinate.y(packedCordinate));
+	}
+
+	// The distances themselves, row major. Shared, not a copy
+	public int[] getDistances() {
+		return this.distances;
+	}
+
+	private void search(final CellGrid cells) {
+		final int[] queue = new int[this.distances.length]; // Every cell is queued at most once
+		int queueHead = 0;
+		int queueTail = 0;
+
+		final int target = this.targetY * this.columns + this.targetX;
+
+		this.distances[target] = 0;
+		queue[queueTail++] = target;
+
+		while (queueHead < queueTail) {
+			final int cell = queue[queueHead++];
+			final int x = cell % this.columns;
+			final int nextDistance = this.distances[cell] + 1;
+
+			if (x > 0) {
+				queueTail = this.visit(cells, cell - 1, nextDistance, queue, queueTail);
+			}
+
+			if (x < this.columns - 1) {
+				queueTail = this.visit(cells, cell + 1, nextDistance, queue, queueTail);
+			}
+
+			if (cell >= this.columns) {
+				queueTail = this.visit(cells, cell - this.columns, nextDistance, queue, queueTail);
+			}
+
+			if (cell < this.distances.length - this.columns) {
+				queueTail = this.visit(cells, cell + this.columns, nextDistance, queue, queueTail);
+			}
+		}
+	}
+
+	private int visit(final CellGrid cells, final int cell, final int distance, final int[] queue, int queueTail) {
+		if (this.distances[cell] == UNREACHABLE && cells.get(cell) != CellGrid.WALL) {
+			this.distances[cell] = distance;
+			queue[queueTail++] = cell;
+		}
+
+		return queueTail;
+	}
+}
\ No newline at end of file
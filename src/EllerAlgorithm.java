@@ -0,0 +1,22 @@
+// Fills the grid from StreamingMazeGenerator, the stream is seeded from the maze's random source
+public final class EllerAlgorithm implements MazeAlgorithm {
+	public static final String NAME = "eller";
+
+	public String getName() {
+		return NAME;
+	}
+
+	public void generate(final MazeGenerator maze) {
+		final BitGrid grid = maze.getGrid();
+		final StreamingMazeGenerator rowGenerator = new StreamingMazeGenerator(grid.getRows(), grid.getColumns(),
+				maze.getRandom().nextLong());
+
+		rowGenerator.generate((rowIndex, blockBits) -> {
+			for (int x = 0; x < grid.getColumns(); x++) {
+				if (StreamingMazeGenerator.isBlock(blockBits, x)) {
+					grid.set(x, rowIndex, true);
+				}
+			}
+		});
+	}
+}
\ No newline at end of file
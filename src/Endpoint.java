@@ -7,6 +7,10 @@ public class Endpoint extends Entity {
 		this.position = position;
 	}
 
+	public Game.PlayerIdentifier getPlayerIdentifier() {
+		return this.player;
+	}
+
 	public Cordinate getPosition() {
 		return this.position;
 	}
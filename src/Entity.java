@@ -1,7 +1,21 @@
 public abstract class Entity {
 	public static final int DIMENSIONS = 2;
 
+	private Glyph glyph; // Built on first use, racing threads build equal glyphs
+
 	public abstract Color[][] renderColors(); // Must return DIMENSIONS * DIMENSIONS array
 
 	public abstract char[][] renderChars(); // Must return DIMENSIONS * DIMENSIONS array
+
+	// Cached, so what renderChars and renderColors return must not change over the entity's life
+	public Glyph glyph() {
+		Glyph cachedGlyph = this.glyph;
+
+		if (cachedGlyph == null) {
+			cachedGlyph = Glyph.of(this);
+			this.glyph = cachedGlyph;
+		}
+
+		return cachedGlyph;
+	}
 }
\ No newline at end of file
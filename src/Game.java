@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.Arrays;
 
 public class Game {
 	public static final String BLANK_SPACE_CHAR = " ";
@@ -46,10 +47,15 @@ public class Game {
 
 	private boolean isRunning;
 	private PlayerIdentifier turn;
-	private final Entity[][] grid;
+	private final CellGrid cells; // One type byte per cell, at() maps them back to entities
+	private final BonusIndex bonuses; // Which cells hold a bonus
+	private final GridStorage.Backend backend;
 	private int moveCount;
 	private boolean bonusesWereRemoved;
 	private PlayerIdentifier winner;
+	private final long seed;
+	private final RandomSource random;
+	private String mazeAlgorithm;
 
 	public class GameMove {
 		private final PlayerIdentifier movePlayer;
@@ -181,60 +187,161 @@ public class Game {
 		}
 	}
 
-	private ArrayList<GameMove> moveHistory;
+	private final MoveHistory moveHistory; // Packed records, see MoveHistory
+	private final StringBuilder frame = new StringBuilder(); // Reused by every render call, see resetFrame()
+	private long bonusHash; // Zobrist keys of every bonus still on the board, see getZobristHash()
+	private DistanceField endpoint1Distances; // Steps to player1Endpoint, see getEndpointDistances()
+	private DistanceField endpoint2Distances;
+	private final long[] dirtyCells = new long[64];
+	private int dirtyCellCount;
+	private boolean allCellsDirty;
+
+	// Undo records of UNDO_STRIDE longs per move and the bonus cells removeBonuses() cleared, see unmakeMove()
+	private static final int UNDO_STRIDE = 6;
+	private static final long NO_DROPPED_MOVE = -1; // No MoveHistory record has bits past 51 set
+	private boolean undoEnabled;
+	private long[] undoRecords = new long[0];
+	private int undoSize;
+	private long[] removedBonusCells = new long[0]; // Pairs of cell index and cell
+	private int removedBonusCellsSize;
+
+	// Moves as bits of viableMoveMask(), a direction's bit is 1 << its ordinal
+	public static final int MOVE_NORTH = 1;
+	public static final int MOVE_EAST = 1 << 1;
+	public static final int MOVE_SOUTH = 1 << 2;
+	public static final int MOVE_WEST = 1 << 3;
+	public static final int MOVE_WASTE = 1 << 4;
+
+	// Bits of an undo record's flags, the turn and winner ordinals take bits 0-3
+	private static final long UNDO_RUNNING = 1 << 4;
+	private static final long UNDO_PLAYER1_FINISHED = 1 << 5;
+	private static final long UNDO_PLAYER2_FINISHED = 1 << 6;
+	private static final long UNDO_BONUSES_REMOVED = 1 << 7;
+	private static final long UNDO_WASTE = 1 << 8;
+	private static final int UNDO_BONUS_CELLS_SHIFT = 16;
+	private static final PlayerIdentifier[] PLAYERS = PlayerIdentifier.values();
+
+	// Cordinate.Direction.values() without None, values() copies its array on every call
+	private static final Cordinate.Direction[] MOVE_DIRECTIONS = {
+			Cordinate.Direction.North,
+			Cordinate.Direction.East,
+			Cordinate.Direction.South,
+			Cordinate.Direction.West
+	};
 
 	Game(final int gridRows, final int gridColumns) {
+		this(gridRows, gridColumns, RandomSource.newSeed());
+	}
+
+	Game(final int gridRows, final int gridColumns, final long seed) {
+		this(gridRows, gridColumns, seed, GridStorage.Backend.Heap);
+	}
+
+	// The backend decides where the cells and the generated maze are stored, see GridStorage.Backend
+	Game(final int gridRows, final int gridColumns, final long seed, final GridStorage.Backend backend) {
+		this.seed = seed;
+		this.backend = backend;
+		this.random = RandomSource.seeded(seed);
 		this.isRunning = true;
 		this.turn = PlayerIdentifier.P1;
 		this.moveCount = 0;
 		this.gridRows = gridRows / 2 * 2 + 1; // Must be odd
 		this.gridColumns = gridColumns / 2 * 2 + 1; // Must be odd
-		this.grid = new Entity[this.gridRows][this.gridColumns];
+		this.cells = new CellGrid(this.gridRows, this.gridColumns, backend);
+		this.bonuses = new BonusIndex(this.gridRows, this.gridColumns, backend);
 		this.player1 = new Player(PlayerIdentifier.P1, new Cordinate(0, 0));
 		this.player2 = new Player(PlayerIdentifier.P2, new Cordinate(this.gridColumns - 1, this.gridRows - 1));
-		this.moveHistory = new ArrayList<GameMove>();
+		this.moveHistory = new MoveHistory();
 		this.bonusesWereRemoved = false;
 		this.winner = PlayerIdentifier.None;
+		this.allCellsDirty = true;
+		this.mazeAlgorithm = RecursiveDivisionAlgorithm.NAME;
 	}
 
+	/**
+	 * An independent copy of the position for search, with its own cells, players and move history. The copy's
+	 * random source starts over from the seed and its undo starts empty and disabled
+	 */
+	public Game(final Game original) {
+		this.seed = original.seed;
+		this.backend = original.backend;
+		this.random = RandomSource.seeded(original.seed);
+		this.isRunning = original.isRunning;
+		this.turn = original.turn;
+		this.moveCount = original.moveCount;
+		this.gridRows = original.gridRows;
+		this.gridColumns = original.gridColumns;
+		this.cells = new CellGrid(original.cells);
+		this.bonuses = new BonusIndex(original.bonuses);
+		this.player1 = new Player(PlayerIdentifier.P1, original.player1.getPosition());
+		this.player1.setPoints(original.player1.getPoints());
+		this.player2 = new Player(PlayerIdentifier.P2, original.player2.getPosition());
+		this.player2.setPoints(original.player2.getPoints());
+		this.player1Endpoint = original.player1Endpoint; // Endpoints never change
+		this.player2Endpoint = original.player2Endpoint;
+		this.player1Finished = original.player1Finished;
+		this.player2Finished = original.player2Finished;
+		this.moveHistory = new MoveHistory(original.moveHistory);
+		this.bonusesWereRemoved = original.bonusesWereRemoved;
+		this.bonusHash = original.bonusHash;
+		this.endpoint1Distances = original.endpoint1Distances; // Never change once measured
+		this.endpoint2Distances = original.endpoint2Distances;
+		this.winner = original.winner;
+		this.allCellsDirty = true;
+		this.mazeAlgorithm = original.mazeAlgorithm;
+	}
+
+	// Off heap boards can be too large to measure up front, their distance fields are measured on first use
 	public void initialize() {
 		this.generateMaze();
 		this.addBonuses();
 		this.addEndpoints();
 		this.addPlayers();
+
+		if (this.backend == GridStorage.Backend.Heap) {
+			this.getEndpointDistances(PlayerIdentifier.P1);
+			this.getEndpointDistances(PlayerIdentifier.P2);
+		}
 	}
 
 	public void generateMaze() {
-		final MazeGenerator gameMaze = new MazeGenerator(this.gridRows, this.gridColumns);
-		gameMaze.generate();
+		this.generateMaze(this.mazeAlgorithm);
+	}
 
-		MazeGenerator.Cell[][] mazeCellGrid = gameMaze.getMaze();
+	public void generateMaze(final String algorithmName) {
+		final MazeGenerator gameMaze = new MazeGenerator(this.gridRows, this.gridColumns, this.random.nextLong(),
+				MazeAlgorithm.byName(algorithmName), this.backend);
+		gameMaze.generate();
 
-		for (int rowIndex = 0; rowIndex < this.grid.length; rowIndex++) {
-			for (int columnIndex = 0; columnIndex < this.grid[0].length; columnIndex++) {
-				this.grid[rowIndex][columnIndex] = ((mazeCellGrid[rowIndex][columnIndex] == MazeGenerator.Cell.Block)
-						? new Wall()
-						: null);
-			}
-		}
+		this.cells.fill(CellGrid.EMPTY);
+		this.cells.addWalls(gameMaze.getGrid());
+		this.bonuses.clear();
+		this.bonusHash = 0;
+		this.forgetDistances();
+		this.markAllCellsDirty();
 	}
 
 	public void addBonuses() {
-		for (final Entity[] row : this.grid) {
-			for (int rowIndex = 0; rowIndex < row.length; rowIndex++) {
-				if (MazeGenerator.discreteRandInclusive(0, 4) == 0) {
-					row[rowIndex] = new Bonus();
+		for (int rowIndex = 0; rowIndex < this.gridRows; rowIndex++) {
+			for (int columnIndex = 0; columnIndex < this.gridColumns; columnIndex++) {
+				if (MazeGenerator.discreteRandInclusive(this.random, 0, 4) == 0) {
+					this.cells.set(columnIndex, rowIndex, CellGrid.bonusCell(Bonus.randomCode(this.random)));
 				}
 			}
 		}
 
 		this.bonusesWereRemoved = false;
+		this.bonuses.rebuild(this.cells);
+		this.bonusHash = this.computeBonusHash();
+		this.forgetDistances(); // Bonuses can be drawn over walls
+		this.markAllCellsDirty();
 	}
 
 	public void addEndpoints() {
 		this.player1Endpoint = new Endpoint(PlayerIdentifier.P1, new Cordinate(0, 0));
 		this.player2Endpoint = new Endpoint(PlayerIdentifier.P2,
 				new Cordinate(this.gridColumns - 1, this.gridRows - 1));
+		this.forgetDistances();
 
 		this.drawEndpoints();
 	}
@@ -243,12 +350,12 @@ public class Game {
 		final Cordinate endpoint1Position = this.player1Endpoint.getPosition();
 		final Cordinate endpoint2Position = this.player2Endpoint.getPosition();
 
-		if (this.at(endpoint1Position) == null) {
-			this.replaceAt(endpoint1Position, this.player1Endpoint);
+		if (this.cells.get(endpoint1Position.getX(), endpoint1Position.getY()) == CellGrid.EMPTY) {
+			this.setCell(endpoint1Position.getX(), endpoint1Position.getY(), CellGrid.ENDPOINT1);
 		}
 
-		if (this.at(endpoint2Position) == null) {
-			this.replaceAt(endpoint2Position, this.player2Endpoint);
+		if (this.cells.get(endpoint2Position.getX(), endpoint2Position.getY()) == CellGrid.EMPTY) {
+			this.setCell(endpoint2Position.getX(), endpoint2Position.getY(), CellGrid.ENDPOINT2);
 		}
 	}
 
@@ -256,8 +363,23 @@ public class Game {
 		final Cordinate player1Position = this.player1.getPosition();
 		final Cordinate player2Position = this.player2.getPosition();
 
-		this.grid[player1Position.getY()][player1Position.getX()] = this.player1;
-		this.grid[player2Position.getY()][player2Position.getX()] = this.player2;
+		this.replaceAt(player1Position, this.player1);
+		this.replaceAt(player2Position, this.player2);
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public String getMazeAlgorithm() {
+		return this.mazeAlgorithm;
+	}
+
+	// Used by generateMaze() and initialize(), see MazeAlgorithm.names()
+	public void setMazeAlgorithm(final String algorithmName) {
+		MazeAlgorithm.byName(algorithmName); // Fails early on unknown names
+
+		this.mazeAlgorithm = algorithmName;
 	}
 
 	public PlayerIdentifier getTurn() {
@@ -276,6 +398,14 @@ public class Game {
 		return this.winner;
 	}
 
+	public int getGridRows() {
+		return this.gridRows;
+	}
+
+	public int getGridColumns() {
+		return this.gridColumns;
+	}
+
 	public int getPoints(final PlayerIdentifier player) {
 		if (player == PlayerIdentifier.P1) {
 			return this.player1.getPoints();
@@ -284,95 +414,547 @@ public class Game {
 		return this.player2.getPoints();
 	}
 
+	public Cordinate getPlayerPosition(final PlayerIdentifier player) {
+		if (player == PlayerIdentifier.P1) {
+			return this.player1.getPosition();
+		}
+
+		return this.player2.getPosition();
+	}
+
+	public long getPackedPlayerPosition(final PlayerIdentifier player) {
+		return ((player == PlayerIdentifier.P1) ? this.player1 : this.player2).getPackedPosition();
+	}
+
+	// Where the player started, the opponent has to reach it
+	public Cordinate getEndpointPosition(final PlayerIdentifier player) {
+		return ((player == PlayerIdentifier.P1) ? this.player1Endpoint : this.player2Endpoint).getPosition();
+	}
+
+	// Whether the player has reached the opponent's endpoint
+	public boolean getIsFinished(final PlayerIdentifier player) {
+		return (player == PlayerIdentifier.P1) ? this.player1Finished : this.player2Finished;
+	}
+
+	/**
+	 * Steps from every cell to the player's endpoint, the one the opponent has to reach, measured once by a breadth
+	 * first search. Only walls block it and walls only change while the board is set up, so after initialize() the
+	 * field holds for the whole game and is shared with copies of it
+	 */
+	public DistanceField getEndpointDistances(final PlayerIdentifier player) {
+		if (player == PlayerIdentifier.P1) {
+			if (this.endpoint1Distances == null) {
+				this.endpoint1Distances = this.measureDistances(this.player1Endpoint);
+			}
+
+			return this.endpoint1Distances;
+		}
+
+		if (this.endpoint2Distances == null) {
+			this.endpoint2Distances = this.measureDistances(this.player2Endpoint);
+		}
+
+		return this.endpoint2Distances;
+	}
+
+	// Steps left from the player to the opponent's endpoint, DistanceField.UNREACHABLE when walled off from it
+	public int getGoalDistance(final PlayerIdentifier player) {
+		return this.getEndpointDistances(player.opposite()).distance(this.getPackedPlayerPosition(player));
+	}
+
+	public GridStorage.Backend getBackend() {
+		return this.backend;
+	}
+
 	public Entity at(final Cordinate returnedPosition) {
-		return this.grid[returnedPosition.getY()][returnedPosition.getX()];
+		return this.at(returnedPosition.getX(), returnedPosition.getY());
+	}
+
+	// Walls and bonuses come back as shared instances, players and endpoints as this game's objects
+	public Entity at(final int x, final int y) {
+		return this.entityOf(this.cells.get(x, y));
+	}
+
+	public CellGrid getCells() {
+		return this.cells;
 	}
 
 	public void replaceAt(final Cordinate position, final Entity newEntity) {
-		this.grid[position.getY()][position.getX()] = newEntity;
+		this.setCell(position.getX(), position.getY(), this.cellOf(newEntity));
+	}
+
+	// Single cell changes go through here so renderers can find out what changed, see getDirtyCellCount()
+	private void setCell(final int x, final int y, final byte cell) {
+		final long index = this.cells.index(x, y);
+
+		final byte previousCell = this.cells.get(index);
+
+		this.bonusHash ^= Zobrist.cell(index, previousCell) ^ Zobrist.cell(index, cell);
+		this.cells.set(index, cell);
+
+		if (CellGrid.isBonus(previousCell) != CellGrid.isBonus(cell)) {
+			if (CellGrid.isBonus(cell)) {
+				this.bonuses.add(index);
+			}
+
+			else {
+				this.bonuses.remove(index);
+			}
+		}
+
+		if (this.allCellsDirty) {
+			return;
+		}
+
+		if (this.dirtyCellCount == this.dirtyCells.length) { // Nobody is collecting, a full redraw is cheaper
+			this.markAllCellsDirty();
+			return;
+		}
+
+		this.dirtyCells[this.dirtyCellCount++] = index;
+	}
+
+	private void markAllCellsDirty() {
+		this.allCellsDirty = true;
+		this.dirtyCellCount = 0;
+	}
+
+	// Cells changed since the last clearDirtyCells(), as CellGrid indices. Meaningless while getAllCellsDirty()
+	public int getDirtyCellCount() {
+		return this.dirtyCellCount;
+	}
+
+	public long getDirtyCell(final int dirtyIndex) {
+		return this.dirtyCells[dirtyIndex];
+	}
+
+	// Set after bulk changes such as generating the maze or removing the bonuses
+	public boolean getAllCellsDirty() {
+		return this.allCellsDirty;
+	}
+
+	public void clearDirtyCells() {
+		this.allCellsDirty = false;
+		this.dirtyCellCount = 0;
+	}
+
+	public MoveHistory getMoveHistory() {
+		return this.moveHistory;
+	}
+
+	// Keep only the last maxMoves moves, 0 keeps every move
+	public void setMoveHistoryLimit(final int maxMoves) {
+		this.moveHistory.setLimit(maxMoves);
+	}
+
+	// Built from the packed record, a new object on every call
+	public GameMove getLastMove() {
+		if (this.moveHistory.size() == 0) {
+			return null;
+		}
+
+		final long lastRecord = this.moveHistory.getLast();
+		final PlayerIdentifier movePlayer = MoveHistory.player(lastRecord);
+
+		if (MoveHistory.isWaste(lastRecord)) {
+			return new GameMove(movePlayer, this.moveCount + 1, true);
+		}
+
+		final int bonusCode = MoveHistory.bonusCode(lastRecord);
+
+		return new GameMove(
+				movePlayer,
+				this.moveCount,
+				PackedCordinate.toCordinate(this.getHighlightStart()),
+				PackedCordinate.toCordinate(this.getHighlightEnd()),
+				MoveHistory.direction(lastRecord),
+				(bonusCode < 0) ? null : Bonus.of(bonusCode));
+	}
+
+	// Packed cordinates of the cells the last move highlights, -1 when there are none
+	public long getHighlightStart() {
+		if (this.moveHistory.size() == 0 || MoveHistory.isWaste(this.moveHistory.getLast())) {
+			return -1;
+		}
+
+		return this.cellCordinate(MoveHistory.startCell(this.moveHistory.getLast()));
+	}
+
+	public long getHighlightEnd() {
+		final long highlightStart = this.getHighlightStart();
+
+		if (highlightStart == -1) {
+			return -1;
+		}
+
+		return PackedCordinate.step(highlightStart, MoveHistory.direction(this.moveHistory.getLast()));
+	}
+
+	private long cellCordinate(final long cellIndex) {
+		return PackedCordinate.pack((int) (cellIndex % this.gridColumns), (int) (cellIndex / this.gridColumns));
+	}
+
+	private Entity entityOf(final byte cell) {
+		if (CellGrid.isBonus(cell)) {
+			return Bonus.of(CellGrid.bonusCode(cell));
+		}
+
+		switch (cell) {
+			case CellGrid.WALL:
+				return Wall.INSTANCE;
+			case CellGrid.ENDPOINT1:
+				return this.player1Endpoint;
+			case CellGrid.ENDPOINT2:
+				return this.player2Endpoint;
+			case CellGrid.PLAYER1:
+				return this.player1;
+			case CellGrid.PLAYER2:
+				return this.player2;
+		}
+
+		return null;
+	}
+
+	private byte cellOf(final Entity entity) {
+		if (entity instanceof Bonus) {
+			return CellGrid.bonusCell(((Bonus) entity).getCode());
+		}
+
+		if (entity instanceof Wall) {
+			return CellGrid.WALL;
+		}
+
+		if (entity instanceof Endpoint) {
+			return (((Endpoint) entity).getPlayerIdentifier() == PlayerIdentifier.P1)
+					? CellGrid.ENDPOINT1
+					: CellGrid.ENDPOINT2;
+		}
+
+		if (entity instanceof Player) {
+			return (((Player) entity).getPlayerIdentifier() == PlayerIdentifier.P1)
+					? CellGrid.PLAYER1
+					: CellGrid.PLAYER2;
+		}
+
+		return CellGrid.EMPTY;
 	}
 
 	public boolean inBounds(final Cordinate checkedPosition) {
-		final int xCord = checkedPosition.getX();
-		final int yCord = checkedPosition.getY();
+		return this.inBounds(checkedPosition.getX(), checkedPosition.getY());
+	}
 
+	public boolean inBounds(final int xCord, final int yCord) {
 		return 0 <= xCord && xCord < this.gridColumns &&
 				0 <= yCord && yCord < this.gridRows;
-
 	}
 
+	// Visits only the cells in the bonus index, O(bonuses left)
 	public void removeBonuses() {
 		if (this.bonusesWereRemoved) {
 			return;
 		}
 
-		for (Entity[] row : this.grid) {
-			for (int index = 0; index < row.length; index++) {
-				if (row[index] instanceof Bonus) {
-					row[index] = null;
+		if (this.bonuses.getCount() != 0) {
+			for (long cellIndex = this.bonuses.next(0); cellIndex >= 0; cellIndex = this.bonuses.next(cellIndex + 1)) {
+				if (this.undoEnabled) {
+					this.saveBonusCell(cellIndex);
 				}
+
+				this.cells.set(cellIndex, CellGrid.EMPTY);
 			}
+
+			this.bonuses.clear();
+			this.markAllCellsDirty();
 		}
 
+		this.bonusHash = 0;
 		this.bonusesWereRemoved = true;
 	}
 
-	public ArrayList<GameMove> viableMoves() {
+	// Every cell still holding a bonus, kept up to date as the board changes. Only to be read, changing the index
+	// does not change the board
+	public BonusIndex getBonuses() {
+		return this.bonuses;
+	}
+
+	public long getBonusCount() {
+		return this.bonuses.getCount();
+	}
+
+	/**
+	 * Zobrist key of the position: both players' cells and points, the turn, the finished flags and every bonus
+	 * left on the board. The bonus part is kept up to date as cells change, the rest is a handful of keys, so this
+	 * is O(1). Equal positions reached through different move orders get the same key
+	 */
+	public long getZobristHash() {
+		return this.bonusHash
+				^ Zobrist.playerAt(PlayerIdentifier.P1, this.packedToCell(this.player1.getPackedPosition()))
+				^ Zobrist.playerAt(PlayerIdentifier.P2, this.packedToCell(this.player2.getPackedPosition()))
+				^ Zobrist.points(PlayerIdentifier.P1, this.player1.getPoints())
+				^ Zobrist.points(PlayerIdentifier.P2, this.player2.getPoints())
+				^ ((this.turn == PlayerIdentifier.P2) ? Zobrist.PLAYER2_TURN : 0)
+				^ (this.player1Finished ? Zobrist.PLAYER1_FINISHED : 0)
+				^ (this.player2Finished ? Zobrist.PLAYER2_FINISHED : 0);
+	}
+
+	private DistanceField measureDistances(final Endpoint endpoint) {
+		final Cordinate target = endpoint.getPosition();
+
+		return new DistanceField(this.cells, target.getX(), target.getY());
+	}
+
+	private void forgetDistances() {
+		this.endpoint1Distances = null;
+		this.endpoint2Distances = null;
+	}
+
+	// From scratch, O(bonuses)
+	private long computeBonusHash() {
+		long hash = 0;
+
+		for (long cellIndex = this.bonuses.next(0); cellIndex >= 0; cellIndex = this.bonuses.next(cellIndex + 1)) {
+			hash ^= Zobrist.cell(cellIndex, this.cells.get(cellIndex));
+		}
+
+		return hash;
+	}
+
+	private long packedToCell(final long packed) {
+		return this.cells.index(PackedCordinate.x(packed), PackedCordinate.y(packed));
+	}
+
+	private void saveBonusCell(final long cellIndex) {
+		if (this.removedBonusCellsSize + 2 > this.removedBonusCells.length) {
+			this.removedBonusCells = Arrays.copyOf(this.removedBonusCells,
+					Math.max(64, this.removedBonusCells.length * 2));
+		}
+
+		this.removedBonusCells[this.removedBonusCellsSize++] = cellIndex;
+		this.removedBonusCells[this.removedBonusCellsSize++] = this.cells.get(cellIndex);
+	}
+
+	public boolean getUndoEnabled() {
+		return this.undoEnabled;
+	}
+
+	// While enabled every played move can be taken back with unmakeMove(), disabling forgets the recorded moves
+	public void setUndoEnabled(final boolean undoEnabled) {
+		this.undoEnabled = undoEnabled;
+
+		if (!undoEnabled) {
+			this.undoRecords = new long[0];
+			this.undoSize = 0;
+			this.removedBonusCells = new long[0];
+			this.removedBonusCellsSize = 0;
+		}
+	}
+
+	// Moves that unmakeMove() can take back
+	public int getUndoDepth() {
+		return this.undoSize / UNDO_STRIDE;
+	}
+
+	/**
+	 * Takes back the last move played while undo was enabled: positions, points, finished flags, turn, winner,
+	 * the bonus collected, bonuses removed by reaching an endpoint, the move history and moveCount.
+	 * Allocates nothing
+	 */
+	public void unmakeMove() {
+		if (this.undoSize == 0) {
+			throw new IllegalStateException("There is no move to take back");
+		}
+
+		this.undoSize -= UNDO_STRIDE;
+
+		final long points = this.undoRecords[this.undoSize];
+		final long flags = this.undoRecords[this.undoSize + 1];
+		final long savedCells = this.undoRecords[this.undoSize + 2];
+		final long moverPosition = this.undoRecords[this.undoSize + 3];
+		final long savedBonusHash = this.undoRecords[this.undoSize + 4];
+		final long droppedMove = this.undoRecords[this.undoSize + 5];
+
+		final long removedBonusCellsBefore = flags >>> UNDO_BONUS_CELLS_SHIFT;
+
+		if (this.removedBonusCellsSize != removedBonusCellsBefore) { // This move removed the bonuses
+			while (this.removedBonusCellsSize != removedBonusCellsBefore) {
+				final byte cell = (byte) this.removedBonusCells[--this.removedBonusCellsSize];
+				final long cellIndex = this.removedBonusCells[--this.removedBonusCellsSize];
+
+				this.cells.set(cellIndex, cell);
+				this.bonuses.add(cellIndex);
+			}
+
+			this.markAllCellsDirty();
+		}
+
+		this.player1.setPoints((int) (points >>> 32));
+		this.player2.setPoints((int) points);
+
+		this.turn = PLAYERS[(int) (flags & 3)];
+		this.winner = PLAYERS[(int) (flags >>> 2) & 3];
+		this.isRunning = (flags & UNDO_RUNNING) != 0;
+		this.player1Finished = (flags & UNDO_PLAYER1_FINISHED) != 0;
+		this.player2Finished = (flags & UNDO_PLAYER2_FINISHED) != 0;
+		this.bonusesWereRemoved = (flags & UNDO_BONUSES_REMOVED) != 0;
+		this.moveCount = (int) (savedCells >>> 32);
+
+		final Player playerMoved = (this.turn == PlayerIdentifier.P1) ? this.player1 : this.player2;
+
+		if ((flags & UNDO_WASTE) == 0) {
+			final long endSquare = playerMoved.getPackedPosition();
+			final Cordinate endpoint1Position = this.player1Endpoint.getPosition();
+			final Cordinate endpoint2Position = this.player2Endpoint.getPosition();
+
+			this.setCell(endpoint1Position.getX(), endpoint1Position.getY(), (byte) (savedCells >>> 16));
+			this.setCell(endpoint2Position.getX(), endpoint2Position.getY(), (byte) (savedCells >>> 24));
+			this.setCell(PackedCordinate.x(endSquare), PackedCordinate.y(endSquare), (byte) savedCells);
+			this.setCell(PackedCordinate.x(moverPosition), PackedCordinate.y(moverPosition), (byte) (savedCells >>> 8));
+
+			playerMoved.setPackedPosition(moverPosition);
+		}
+
+		if (this.moveHistory.size() != 0) {
+			this.moveHistory.removeLast();
+		}
+
+		if (droppedMove != NO_DROPPED_MOVE) { // A bounded history made room for this move
+			this.moveHistory.addFirst(droppedMove);
+		}
+
+		this.bonusHash = savedBonusHash;
+	}
+
+	// Everything playMove() can change, taken before it changes anything
+	private void pushUndoRecord(final int move, final long endSquare) {
+		if (this.undoSize + UNDO_STRIDE > this.undoRecords.length) {
+			this.undoRecords = Arrays.copyOf(this.undoRecords, Math.max(64, this.undoRecords.length * 2));
+		}
+
 		final Player playerMoving = (this.turn == PlayerIdentifier.P1) ? this.player1 : this.player2;
-		final Cordinate playerStartingPosition = playerMoving.getPosition();
+		final Cordinate endpoint1Position = this.player1Endpoint.getPosition();
+		final Cordinate endpoint2Position = this.player2Endpoint.getPosition();
+		final long startSquare = playerMoving.getPackedPosition();
+
+		final long flags = this.turn.ordinal()
+				| (this.winner.ordinal() << 2)
+				| (this.isRunning ? UNDO_RUNNING : 0)
+				| (this.player1Finished ? UNDO_PLAYER1_FINISHED : 0)
+				| (this.player2Finished ? UNDO_PLAYER2_FINISHED : 0)
+				| (this.bonusesWereRemoved ? UNDO_BONUSES_REMOVED : 0)
+				| ((move == MOVE_WASTE) ? UNDO_WASTE : 0)
+				| ((long) this.removedBonusCellsSize << UNDO_BONUS_CELLS_SHIFT);
+
+		final long savedCells = ((long) this.moveCount << 32)
+				| ((this.cells.get(endpoint2Position.getX(), endpoint2Position.getY()) & 0xFFL) << 24)
+				| ((this.cells.get(endpoint1Position.getX(), endpoint1Position.getY()) & 0xFFL) << 16)
+				| ((this.cells.get(PackedCordinate.x(startSquare), PackedCordinate.y(startSquare)) & 0xFFL) << 8)
+				| (this.cells.get(PackedCordinate.x(endSquare), PackedCordinate.y(endSquare)) & 0xFFL);
+
+		this.undoRecords[this.undoSize++] = ((long) this.player1.getPoints() << 32)
+				| (this.player2.getPoints() & 0xFFFFFFFFL);
+		this.undoRecords[this.undoSize++] = flags;
+		this.undoRecords[this.undoSize++] = savedCells;
+		this.undoRecords[this.undoSize++] = startSquare;
+		this.undoRecords[this.undoSize++] = this.bonusHash;
+		this.undoRecords[this.undoSize++] = this.moveHistory.isFull() ? this.moveHistory.get(0) : NO_DROPPED_MOVE;
+	}
+
+	// Bit for each legal move of the player whose turn it is, MOVE_NORTH to MOVE_WASTE. Allocates nothing
+	public int viableMoveMask() {
+		final Player playerMoving = (this.turn == PlayerIdentifier.P1) ? this.player1 : this.player2;
+		final long startingPosition = playerMoving.getPackedPosition();
+
+		int moveMask = (playerMoving.getPoints() > 0) ? MOVE_WASTE : 0;
+
+		for (final Cordinate.Direction direction : MOVE_DIRECTIONS) { // Check all directions
+			final long newPosition = PackedCordinate.step(startingPosition, direction);
+			final int newX = PackedCordinate.x(newPosition);
+			final int newY = PackedCordinate.y(newPosition);
+
+			if (!this.inBounds(newX, newY)) {
+				continue;
+			}
+
+			final byte atNewPosition = this.cells.get(newX, newY);
+
+			if (atNewPosition == CellGrid.EMPTY || CellGrid.isBonus(atNewPosition)
+					|| atNewPosition == CellGrid.ENDPOINT1 || atNewPosition == CellGrid.ENDPOINT2) {
+				moveMask |= moveOf(direction);
+			}
+		}
+
+		return moveMask;
+	}
+
+	// MOVE_NORTH to MOVE_WEST for a direction, 0 for Direction.None
+	public static int moveOf(final Cordinate.Direction direction) {
+		return (direction == Cordinate.Direction.None) ? 0 : 1 << direction.ordinal();
+	}
+
+	// The single bit move for a key, 0 for keys that are not moves
+	public static int moveFromKey(final char moveCode) {
+		return (moveCode == 'x') ? MOVE_WASTE : moveOf(Cordinate.Direction.fromKey(moveCode));
+	}
+
+	public ArrayList<GameMove> viableMoves() {
+		final int moveMask = this.viableMoveMask();
+		final Cordinate playerStartingPosition = this.getPlayerPosition(this.turn);
+		final long startingPosition = PackedCordinate.pack(playerStartingPosition);
 
 		final ArrayList<GameMove> checkedViableMoves = new ArrayList<GameMove>();
 
-		if (playerMoving.getPoints() > 0) {
+		if ((moveMask & MOVE_WASTE) != 0) {
 			checkedViableMoves.add(new GameMove(this.turn, this.moveCount + 1, true)); // Waste move
 		}
 
-		for (final Cordinate.Direction direction : Cordinate.Direction.values()) { // Check all directions
-			final Cordinate newPosition = playerStartingPosition.inDirection(direction, 1);
-
-			if (!this.inBounds(newPosition)) {
+		for (final Cordinate.Direction direction : MOVE_DIRECTIONS) {
+			if ((moveMask & moveOf(direction)) == 0) {
 				continue;
 			}
 
-			final Entity atNewPosition = this.at(newPosition);
-			final boolean isBonusAtNewPosition = atNewPosition instanceof Bonus;
-			final boolean isEndpointAtNewPosition = atNewPosition instanceof Endpoint;
-
-			if (atNewPosition == null | isBonusAtNewPosition | isEndpointAtNewPosition) {
-				checkedViableMoves.add(
-						new GameMove(
-								playerMoving.getPlayerIdentifier(),
-								this.moveCount + 1, // Next move
-								playerStartingPosition,
-								newPosition,
-								direction,
-								(isBonusAtNewPosition) ? (Bonus) atNewPosition : null));
-			}
+			final long newPosition = PackedCordinate.step(startingPosition, direction);
+			final byte atNewPosition = this.cells.get(PackedCordinate.x(newPosition), PackedCordinate.y(newPosition));
+
+			checkedViableMoves.add(
+					new GameMove(
+							this.turn,
+							this.moveCount + 1, // Next move
+							playerStartingPosition,
+							PackedCordinate.toCordinate(newPosition),
+							direction,
+							CellGrid.isBonus(atNewPosition) ? Bonus.of(CellGrid.bonusCode(atNewPosition)) : null));
 		}
 
 		return checkedViableMoves;
 	}
 
 	public ArrayList<Character> viableMoveKeys() {
-		ArrayList<Character> keys = new ArrayList<Character>();
+		final int moveMask = this.viableMoveMask();
+		final ArrayList<Character> keys = new ArrayList<Character>();
 
-		for (final GameMove viableMove : this.viableMoves()) {
-			keys.add(viableMove.getKey());
+		if ((moveMask & MOVE_WASTE) != 0) {
+			keys.add('x');
+		}
+
+		for (final Cordinate.Direction direction : MOVE_DIRECTIONS) {
+			if ((moveMask & moveOf(direction)) != 0) {
+				keys.add(direction.getKey());
+			}
 		}
 
 		return keys;
 	}
 
 	public boolean makeMove(final char moveCode) {
-		final ArrayList<GameMove> possibleMoves = this.viableMoves();
+		final int move = moveFromKey(moveCode);
 
-		for (final GameMove maybeMove : possibleMoves) {
-			if (maybeMove.getKey() == moveCode) {
-				return this.makeMove(maybeMove);
-			}
+		if (move == 0 || (this.viableMoveMask() & move) == 0) {
+			return false;
 		}
 
-		return false;
+		this.playMove(move);
+
+		return true;
 	}
 
 	public boolean makeMove(final GameMove moveMade) {
@@ -380,48 +962,106 @@ public class Game {
 			return false;
 		}
 
-		final ArrayList<GameMove> allViableMoves = this.viableMoves();
+		final int moveMask = this.viableMoveMask();
 
-		if (allViableMoves.size() == 0) { // If the current player does not have any moves, the opponent wins
+		if (moveMask == 0) { // If the current player does not have any moves, the opponent wins
 			this.isRunning = false;
 			this.winner = this.turn.opposite();
+
+			return false;
 		}
 
-		final boolean isViableMove = allViableMoves.contains(moveMade);
+		if (moveMade.getPlayerIdentifier() != this.turn || moveMade.getMoveNumber() != this.moveCount + 1) {
+			return false;
+		}
+
+		if (moveMade.getIsWasteMove()) {
+			return this.applyMove(MOVE_WASTE);
+		}
 
-		if (!isViableMove) {
+		final long startingPosition = PackedCordinate.pack(this.getPlayerPosition(this.turn));
+		final int move = moveOf(moveMade.getMoveDirection());
+
+		if (move == 0 || PackedCordinate.pack(moveMade.getStart()) != startingPosition
+				|| PackedCordinate.pack(moveMade.getEnd()) != PackedCordinate.step(startingPosition,
+						moveMade.getMoveDirection())) {
 			return false;
 		}
 
+		return this.applyMove(move);
+	}
+
+	/**
+	 * Plays one move given as a single bit of viableMoveMask(). Returns false and changes nothing when it is not
+	 * legal, except that a player without any legal move loses, as with makeMove(GameMove). O(1), allocates nothing
+	 * unless the move history has to grow
+	 */
+	public boolean applyMove(final int move) {
+		final int moveMask = this.viableMoveMask();
+
+		if (moveMask == 0) { // If the current player does not have any moves, the opponent wins
+			this.isRunning = false;
+			this.winner = this.turn.opposite();
+
+			return false;
+		}
+
+		if (Integer.bitCount(move) != 1 || (moveMask & move) == 0) {
+			return false;
+		}
+
+		this.playMove(move);
+
+		return true;
+	}
+
+	// The move must be legal
+	private void playMove(final int move) {
 		final Player playerMoved = (this.turn == PlayerIdentifier.P1) ? player1 : player2;
 
-		if (moveMade.getIsWasteMove()) {
+		if (move == MOVE_WASTE) {
+			if (this.undoEnabled) {
+				this.pushUndoRecord(move, playerMoved.getPackedPosition());
+			}
+
+			this.moveHistory.add(MoveHistory.encodeWaste(this.turn));
 			this.turn = this.turn.opposite();
 			playerMoved.setPoints(playerMoved.getPoints() - 1);
-			this.moveHistory.add(moveMade);
 
-			return true;
+			return;
+		}
+
+		final Cordinate.Direction direction = MOVE_DIRECTIONS[Integer.numberOfTrailingZeros(move)];
+		final long startingSquare = playerMoved.getPackedPosition();
+		final long endSquare = PackedCordinate.step(startingSquare, direction);
+		final byte atEndSquare = this.cells.get(PackedCordinate.x(endSquare), PackedCordinate.y(endSquare));
+
+		if (this.undoEnabled) {
+			this.pushUndoRecord(move, endSquare);
 		}
 
-		final Cordinate startingSquare = moveMade.getStart();
-		final Cordinate endSquare = moveMade.getEnd();
-		final Entity atEndSquare = this.at(endSquare);
+		this.moveHistory.add(MoveHistory.encodeMove(
+				this.turn,
+				this.cells.index(PackedCordinate.x(startingSquare), PackedCordinate.y(startingSquare)),
+				direction,
+				CellGrid.isBonus(atEndSquare) ? CellGrid.bonusCode(atEndSquare) : -1));
 
-		if (atEndSquare instanceof Bonus) {
-			playerMoved.applyBonus((Bonus) atEndSquare);
+		if (CellGrid.isBonus(atEndSquare)) {
+			playerMoved.applyBonus(Bonus.of(CellGrid.bonusCode(atEndSquare)));
 		}
 
-		this.replaceAt(endSquare, playerMoved);
-		this.replaceAt(startingSquare, null);
+		this.setCell(PackedCordinate.x(endSquare), PackedCordinate.y(endSquare),
+				(playerMoved == this.player1) ? CellGrid.PLAYER1 : CellGrid.PLAYER2);
+		this.setCell(PackedCordinate.x(startingSquare), PackedCordinate.y(startingSquare), CellGrid.EMPTY);
 
-		playerMoved.setPosition(endSquare);
+		playerMoved.setPackedPosition(endSquare);
 
-		if (player1.getPosition().equals(player2Endpoint.getPosition())) {
+		if (this.player1.getPackedPosition() == PackedCordinate.pack(this.player2Endpoint.getPosition())) {
 			this.removeBonuses();
 			player1Finished = true;
 		}
 
-		if (player2.getPosition().equals(player1Endpoint.getPosition())) {
+		if (this.player2.getPackedPosition() == PackedCordinate.pack(this.player1Endpoint.getPosition())) {
 			this.removeBonuses();
 			player2Finished = true;
 		}
@@ -467,120 +1107,122 @@ public class Game {
 		}
 
 		this.drawEndpoints();
-		this.moveHistory.add(moveMade);
 		this.moveCount += 1;
-
-		return true;
 	}
 
+	// Every line of the board, each line is built in the reused frame buffer
 	public String[] renderLines() {
-		final int entitySize = Entity.DIMENSIONS;
-		final String colorReset = Color.CEND.getValue();
-
-		// *3 accounts for colors and oclor resets
-
-		/**
-		 * For each entity:
-		 * Char | Color | Reset | Char | Color | Reset
-		 * Char | Color | Reset | Char | Color | Reset
-		 */
-
-		String[] lines = new String[entitySize * this.gridRows];
+		final String[] lines = new String[Entity.DIMENSIONS * this.gridRows];
 
 		for (int lineIndex = 0; lineIndex < lines.length; lineIndex++) {
-			lines[lineIndex] = "";
+			final StringBuilder line = this.resetFrame();
+
+			this.appendBoardLine(line, lineIndex);
+			lines[lineIndex] = line.toString();
 		}
 
-		final GameMove mostRecentMove = (this.moveHistory.size() != 0)
-				? this.moveHistory.get(this.moveHistory.size() - 1)
-				: null;
+		return lines;
+	}
 
-		for (int rowIndex = 0; rowIndex < gridRows; rowIndex++) {
-			for (int columnIndex = 0; columnIndex < gridColumns; columnIndex++) {
-				final Cordinate cordinateSquare = new Cordinate(columnIndex, rowIndex);
+	/**
+	 * For each entity on the line, from its cached Glyph:
+	 * Char | Color | Reset | Char | Color | Reset
+	 */
+	public void appendBoardLine(final StringBuilder builder, final int lineIndex) {
+		this.appendBoardLine(builder, lineIndex, 0, this.gridColumns);
+	}
 
-				final Entity renderedEntity = this.at(cordinateSquare);
-				final boolean isHighlightedSquare = (mostRecentMove != null && !mostRecentMove.getIsWasteMove())
-						? (mostRecentMove.getStart().equals(cordinateSquare) ||
-								mostRecentMove.getEnd().equals(cordinateSquare))
-						: false;
+	// Only the cells in columns [fromColumn, toColumn) of the line
+	public void appendBoardLine(final StringBuilder builder, final int lineIndex, final int fromColumn,
+			final int toColumn) {
+		final int entitySize = Entity.DIMENSIONS;
+		final int rowIndex = lineIndex / entitySize;
+		final int rowOfEntity = lineIndex % entitySize;
 
-				final String background = (isHighlightedSquare ? Color.CGREYBG : Color.NONE).getValue();
+		final long highlightStart = this.getHighlightStart();
+		final long highlightEnd = this.getHighlightEnd();
 
-				if (renderedEntity == null) {
-					lines[rowIndex * 2] += background + BLANK_SPACE_CHAR + BLANK_SPACE_CHAR + colorReset;
-					lines[rowIndex * 2 + 1] += background + BLANK_SPACE_CHAR + BLANK_SPACE_CHAR + colorReset;
-				}
+		for (int columnIndex = fromColumn; columnIndex < toColumn; columnIndex++) {
+			final long cordinateSquare = PackedCordinate.pack(columnIndex, rowIndex);
+			final boolean isHighlightedSquare = cordinateSquare == highlightStart || cordinateSquare == highlightEnd;
 
-				else {
-					final Color[][] colors = renderedEntity.renderColors();
-					final char[][] chars = renderedEntity.renderChars();
-
-					for (int rowOfEntity = 0; rowOfEntity < 2; rowOfEntity++) {
-						if (colors != null) {
-							lines[rowIndex * 2 + rowOfEntity] += background;
-							lines[rowIndex * 2 + rowOfEntity] += colors[rowOfEntity][0].getValue();
-							lines[rowIndex * 2 + rowOfEntity] += chars[rowOfEntity][0];
-							lines[rowIndex * 2 + rowOfEntity] += colorReset;
-
-							lines[rowIndex * 2 + rowOfEntity] += background;
-							lines[rowIndex * 2 + rowOfEntity] += colors[rowOfEntity][1].getValue();
-							lines[rowIndex * 2 + rowOfEntity] += chars[rowOfEntity][1];
-							lines[rowIndex * 2 + rowOfEntity] += colorReset;
-						}
-
-						if (chars != null && colors == null) {
-							lines[rowIndex * 2 + rowOfEntity] += background;
-							lines[rowIndex * 2 + rowOfEntity] += chars[rowOfEntity][0];
-							lines[rowIndex * 2 + rowOfEntity] += chars[rowOfEntity][1];
-							lines[rowIndex * 2 + rowOfEntity] += colorReset;
-						}
-					}
-				}
-			}
+			this.glyphAt(columnIndex, rowIndex).appendLine(builder, rowOfEntity, isHighlightedSquare);
 		}
+	}
 
-		return lines;
+	public Glyph glyphAt(final int x, final int y) {
+		final Entity entity = this.at(x, y);
+
+		return (entity == null) ? Glyph.EMPTY : entity.glyph();
 	}
 
 	public String renderString(final char borderChar, final int borderWidth) {
-		String renderedString = "";
+		return this.renderString(borderChar, borderWidth, this.wholeBoard());
+	}
 
-		final int width = (this.gridColumns + borderWidth) * 2;
+	public String renderString(final char borderChar, final int borderWidth, final Viewport viewport) {
+		final StringBuilder renderedString = this.resetFrame();
 
-		for (int iteration = 0; iteration < borderWidth; iteration++) { // Header padding
-			for (int index = 0; index < width; index++) {
-				renderedString += borderChar;
-			}
+		this.appendBoard(renderedString, borderChar, borderWidth, viewport);
 
-			renderedString += '\n';
-		}
+		return renderedString.toString();
+	}
 
-		final String[] renderedLines = this.renderLines();
+	// The board with a border of borderWidth borderChars on every side, one board line per text line
+	public void appendBoard(final StringBuilder builder, final char borderChar, final int borderWidth) {
+		this.appendBoard(builder, borderChar, borderWidth, this.wholeBoard());
+	}
 
-		for (final String row : renderedLines) { // Content
-			for (int index = 0; index < borderWidth; index++) {
-				renderedString += borderChar;
-			}
+	// Only the cells inside the viewport, so the cost depends on the viewport size and not the board size
+	public void appendBoard(final StringBuilder builder, final char borderChar, final int borderWidth,
+			final Viewport viewport) {
+		if (!viewport.fitsIn(this.gridColumns, this.gridRows)) {
+			throw new IllegalArgumentException("Viewport " + viewport + " does not fit on the board");
+		}
 
-			renderedString += row;
+		final int width = (viewport.getColumns() + borderWidth) * 2;
 
-			for (int index = 0; index < borderWidth; index++) {
-				renderedString += borderChar;
-			}
+		for (int iteration = 0; iteration < borderWidth; iteration++) { // Header padding
+			appendRepeated(builder, borderChar, width);
+			builder.append('\n');
+		}
 
-			renderedString += '\n';
+		for (int lineIndex = Entity.DIMENSIONS * viewport.getY(); lineIndex < Entity.DIMENSIONS
+				* viewport.getBottom(); lineIndex++) { // Content
+			appendRepeated(builder, borderChar, borderWidth);
+			this.appendBoardLine(builder, lineIndex, viewport.getX(), viewport.getRight());
+			appendRepeated(builder, borderChar, borderWidth);
+			builder.append('\n');
 		}
 
 		for (int iteration = 0; iteration < borderWidth; iteration++) { // Lower padding
-			for (int index = 0; index < width; index++) {
-				renderedString += borderChar;
-			}
+			appendRepeated(builder, borderChar, width);
+			builder.append('\n');
+		}
+	}
+
+	public Viewport wholeBoard() {
+		return Viewport.wholeBoard(this.gridColumns, this.gridRows);
+	}
 
-			renderedString += '\n';
+	// A window of at most columns * rows cells around the player whose turn it is, clipped at the board edges
+	public Viewport viewportAroundTurn(final int columns, final int rows) {
+		final Cordinate position = this.getPlayerPosition(this.turn);
+
+		return Viewport.centeredOn(position.getX(), position.getY(), columns, rows, this.gridColumns, this.gridRows);
+	}
+
+	private static void appendRepeated(final StringBuilder builder, final char repeated, final int count) {
+		for (int index = 0; index < count; index++) {
+			builder.append(repeated);
 		}
+	}
+
+	// The frame buffer keeps its capacity, so after the first frame the following ones do not grow it
+	private StringBuilder resetFrame() {
+		this.frame.setLength(0);
 
-		return renderedString;
+		return this.frame;
 	}
 
 	public String renderScores() {
@@ -599,31 +1241,82 @@ public class Game {
 	}
 
 	public String renderMoveHistory(final int maxHistoryLength) {
+		final StringBuilder renderString = this.resetFrame();
+
+		this.appendMoveHistory(renderString, maxHistoryLength);
+
+		return renderString.toString();
+	}
+
+	public void appendMoveHistory(final StringBuilder builder, final int maxHistoryLength) {
 		final int length = Math.min(maxHistoryLength, this.moveHistory.size());
+		final int firstIndex = this.moveHistory.size() - length;
 
-		GameMove[] lastFewMoves = new GameMove[length];
+		// Waste moves share their number with the next move, every other move counts once in moveCount
+		int moveNumber = this.moveCount;
 
-		for (int lastFewMovesIndexer = length - 1; lastFewMovesIndexer >= 0; lastFewMovesIndexer--) {
-			lastFewMoves[lastFewMovesIndexer] = this.moveHistory.get(
-					this.moveHistory.size() - (length - lastFewMovesIndexer));
+		for (int moveIndex = firstIndex; moveIndex < this.moveHistory.size(); moveIndex++) {
+			if (!MoveHistory.isWaste(this.moveHistory.get(moveIndex))) {
+				moveNumber--;
+			}
+		}
+
+		builder.append("Move History:\n");
+
+		for (int moveIndex = firstIndex; moveIndex < this.moveHistory.size(); moveIndex++) {
+			final long record = this.moveHistory.get(moveIndex);
+
+			if (!MoveHistory.isWaste(record)) {
+				moveNumber++;
+			}
+
+			this.appendMoveDescription(builder, record, MoveHistory.isWaste(record) ? moveNumber + 1 : moveNumber);
+			builder.append(Color.CEND.getValue());
+			builder.append('\n');
+		}
+	}
+
+	// Same text as GameMove.toStringDescriptive(true)
+	private void appendMoveDescription(final StringBuilder builder, final long record, final int moveNumber) {
+		builder.append(((MoveHistory.player(record) == PlayerIdentifier.P1) ? Color.CRED : Color.CBLUE).getValue());
+		builder.append(moveNumber).append(". ");
+
+		if (MoveHistory.isWaste(record)) {
+			builder.append("(waste)");
+			return;
 		}
 
-		String renderString = "Move History:\n";
+		final Cordinate.Direction direction = MoveHistory.direction(record);
+		final long start = this.cellCordinate(MoveHistory.startCell(record));
+		final long end = PackedCordinate.step(start, direction);
+		final int bonusCode = MoveHistory.bonusCode(record);
+
+		appendCordinate(builder, start).append(" to ");
+		appendCordinate(builder, end).append(" (").append(direction.getOrdinal()).append(") ");
+
+		if (bonusCode >= 0) {
+			final Bonus bonus = Bonus.of(bonusCode);
 
-		for (final GameMove renderedMove : lastFewMoves) {
-			renderString += renderedMove.toStringDescriptive(true);
-			renderString += Color.CEND.getValue();
-			renderString += '\n';
+			builder.append(bonus.getBonusType().getSymbol()).append(bonus.getBonusValue());
 		}
 
-		return renderString;
+		builder.append(Color.CEND.getValue());
+	}
+
+	private static StringBuilder appendCordinate(final StringBuilder builder, final long packed) {
+		return builder.append('(').append(PackedCordinate.x(packed)).append(", ").append(PackedCordinate.y(packed))
+				.append(')');
 	}
 
 	@Override
 	public String toString() {
-		return this.renderScores() + "\n" +
-				this.renderTurn() + "\n" +
-				this.renderString('*', 1) +
-				this.renderMoveHistory(4);
+		final StringBuilder renderedFrame = this.resetFrame();
+
+		renderedFrame.append(this.renderScores()).append('\n');
+		renderedFrame.append(this.renderTurn()).append('\n');
+		this.appendBoard(renderedFrame, '*', 1);
+		this.appendMoveHistory(renderedFrame, 4);
+
+		return renderedFrame.toString();
 	}
 }
\ No newline at end of file
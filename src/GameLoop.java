@@ -4,6 +4,8 @@ import java.lang.NumberFormatException;
 
 public final class GameLoop {
 	static final String CLS = "\u001B[2J\u001B[0;0f";
+	static final int VIEWPORT_COLUMNS = 39; // Largest board shown whole, bigger boards are shown through a window
+	static final int VIEWPORT_ROWS = 15;
 	private Game runningGame;
 
 	public GameLoop() {
@@ -19,6 +21,7 @@ public final class GameLoop {
 					> h - help
 					> q - quit
 					> s - start a new game
+					> c - start a new game against the computer
 
 				""";
 
@@ -59,9 +62,9 @@ public final class GameLoop {
 				continue;
 			}
 
-			if (input.charAt(0) == 's') {
+			if (input.charAt(0) == 's' || input.charAt(0) == 'c') {
 				clearScreen();
-				this.startGame();
+				this.startGame(input.charAt(0) == 'c');
 				clearScreen();
 				System.out.println(HelpTexts.asciiArt);
 				System.out.print(greetDialog);
@@ -108,7 +111,7 @@ public final class GameLoop {
 		final String errorSmallBoard = "Error: %d is too small of a board size\n";
 		final String warningLargeBoard = "Warning: a board size of %d might not render properly\n";
 		final int minBoardSize = 6;
-		final String promptDialog = String.format("Enter an integer board size >%d for the rows and columns separated by a space (Note: board sizes too large may not render properly)\n> ", minBoardSize);
+		final String promptDialog = String.format("Enter an integer board size >%d for the rows and columns separated by a space (Note: boards larger than %d by %d are shown through a window around the current player)\n> ", minBoardSize, VIEWPORT_ROWS, VIEWPORT_COLUMNS);
 
 		Scanner stdin = new Scanner(System.in);
 
@@ -200,6 +203,11 @@ public final class GameLoop {
 	}
 
 	public void startGame() {
+		this.startGame(false);
+	}
+
+	// Against the computer, Player2's moves are chosen by a ComputerPlayer
+	public void startGame(final boolean isAgainstComputer) {
 		GameLoop.clearScreen();
 
 		final Cordinate gameSize = this.promptSize();
@@ -209,22 +217,39 @@ public final class GameLoop {
 
 		clearScreen();
 
+		final TerminalRenderer renderer = new TerminalRenderer(this.runningGame);
+
+		if (this.runningGame.getGridColumns() > VIEWPORT_COLUMNS || this.runningGame.getGridRows() > VIEWPORT_ROWS) {
+			renderer.followTurn(VIEWPORT_COLUMNS, VIEWPORT_ROWS);
+		}
+
+		final ComputerPlayer computer = isAgainstComputer ? new ComputerPlayer() : null;
+
+		if (computer != null) {
+			computer.prepare(this.runningGame); // Copies the board now, not in the first move's time budget
+		}
+
 		while (runningGame.getIsRunning()) {
-			clearScreen();
+			renderer.render();
 
-			System.out.println(this.runningGame);
+			if (computer != null && this.runningGame.getTurn() == Game.PlayerIdentifier.P2) {
+				this.runningGame.applyMove(computer.chooseMove(this.runningGame)); // Ends the game when it has no move
+				continue;
+			}
 
 			final char userMoveChar = this.moveDirection(this.runningGame.viableMoveKeys());
 
 			if (userMoveChar == 'q') {
 				promptQuit();
 				clearScreen();
+				renderer.invalidate();
 				continue;
 			}
 
 			if (userMoveChar == 'h') {
 				showHelp();
 				clearScreen();
+				renderer.invalidate();
 				continue;
 			}
 
@@ -237,9 +262,12 @@ public final class GameLoop {
 			}
 		}
 
-		clearScreen();
+		if (computer != null) {
+			computer.close();
+		}
 
-		System.out.println(this.runningGame);
+		renderer.invalidate();
+		renderer.render();
 
 		final Game.PlayerIdentifier winner = this.runningGame.getWinner();
 
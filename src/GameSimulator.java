@@ -0,0 +1,284 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays seeded games without a terminal, each player's moves chosen by a MovePolicy, and sums up how they went.
+ * Games are split over a fork/join pool, game i of a run uses seed firstSeed + i, so a run gives the same results
+ * on any number of threads
+ */
+public final class GameSimulator {
+	public static final int GAMES_PER_TASK = 64; // Games played by one task before it is not split further
+	public static final int POINTS_HISTOGRAM_MIN = -256; // Final points outside the histogram are counted at its ends
+	public static final int POINTS_HISTOGRAM_MAX = 511;
+	public static final int POINTS_BUCKET_WIDTH = 8;
+	private static final int POINTS_BUCKETS = (POINTS_HISTOGRAM_MAX - POINTS_HISTOGRAM_MIN + 1) / POINTS_BUCKET_WIDTH;
+	public static final int LENGTH_BUCKETS = 32; // Bucket b counts games of 2^(b-1) up to 2^b - 1 moves
+
+	private final int rows;
+	private final int columns;
+	private final Supplier<MovePolicy> player1Policy;
+	private final Supplier<MovePolicy> player2Policy;
+	private final int moveLimit; // Games still running after this many moves are counted as unfinished
+	private String mazeAlgorithm = RecursiveDivisionAlgorithm.NAME;
+
+	public GameSimulator(final int rows, final int columns, final Supplier<MovePolicy> player1Policy,
+			final Supplier<MovePolicy> player2Policy, final int moveLimit) {
+		if (moveLimit < 1) {
+			throw new IllegalArgumentException("A simulated game needs a move limit of at least one move");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.player1Policy = player1Policy;
+		this.player2Policy = player2Policy;
+		this.moveLimit = moveLimit;
+	}
+
+	public int getMoveLimit() {
+		return this.moveLimit;
+	}
+
+	public String getMazeAlgorithm() {
+		return this.mazeAlgorithm;
+	}
+
+	public void setMazeAlgorithm(final String algorithmName) {
+		MazeAlgorithm.byName(algorithmName); // Fails early on unknown names
+
+		this.mazeAlgorithm = algorithmName;
+	}
+
+	public Results run(final long firstSeed, final long games, final ForkJoinPool pool) {
+		final long startTime = System.nanoTime();
+		final Results results = pool.invoke(new SimulateTask(firstSeed, 0, games));
+
+		results.elapsedNanos = System.nanoTime() - startTime;
+
+		return results;
+	}
+
+	// Plays one game to its end or to the move limit and adds it to the results
+	public void play(final long seed, final Results results) {
+		final Game game = new Game(this.rows, this.columns, seed);
+		game.setMazeAlgorithm(this.mazeAlgorithm);
+		game.setMoveHistoryLimit(1); // Only the game's outcome is kept
+		game.initialize();
+
+		final MovePolicy player1 = this.player1Policy.get();
+		final MovePolicy player2 = this.player2Policy.get();
+		final RandomSource random = RandomSource.seeded(~seed); // Apart from the game's own stream
+
+		int moves = 0;
+
+		while (game.getIsRunning() && moves < this.moveLimit) {
+			final MovePolicy policy = (game.getTurn() == Game.PlayerIdentifier.P1) ? player1 : player2;
+
+			game.applyMove(policy.chooseMove(game, random)); // Ends the game when the player has no move
+			moves++;
+		}
+
+		results.add(game, moves);
+	}
+
+	private final class SimulateTask extends RecursiveTask<Results> {
+		private static final long serialVersionUID = 1L;
+
+		private final long firstSeed;
+		private final long firstGame;
+		private final long lastGame; // Exclusive
+
+		SimulateTask(final long firstSeed, final long firstGame, final long lastGame) {
+			this.firstSeed = firstSeed;
+			this.firstGame = firstGame;
+			this.lastGame = lastGame;
+		}
+
+		@Override
+		protected Results compute() {
+			if (this.lastGame - this.firstGame <= GAMES_PER_TASK) {
+				final Results results = new Results();
+
+				for (long gameIndex = this.firstGame; gameIndex < this.lastGame; gameIndex++) {
+					play(this.firstSeed + gameIndex, results);
+				}
+
+				return results;
+			}
+
+			final long middleGame = (this.firstGame + this.lastGame) >>> 1;
+			final SimulateTask firstHalf = new SimulateTask(this.firstSeed, this.firstGame, middleGame);
+			firstHalf.fork();
+
+			final Results results = new SimulateTask(this.firstSeed, middleGame, this.lastGame).compute();
+			results.merge(firstHalf.join());
+
+			return results;
+		}
+	}
+
+	// Counts over every simulated game, merged from the results of each task
+	public static final class Results {
+		private long games;
+		private long player1Wins;
+		private long player2Wins;
+		private long draws;
+		private long unfinished;
+		private long totalMoves;
+		private long elapsedNanos;
+		private final long[] lengths = new long[LENGTH_BUCKETS];
+		private final long[] player1Points = new long[POINTS_BUCKETS];
+		private final long[] player2Points = new long[POINTS_BUCKETS];
+
+		public long getGames() {
+			return this.games;
+		}
+
+		public long getWins(final Game.PlayerIdentifier player) {
+			return (player == Game.PlayerIdentifier.P1) ? this.player1Wins : this.player2Wins;
+		}
+
+		public long getDraws() {
+			return this.draws;
+		}
+
+		// Games stopped at the move limit
+		public long getUnfinished() {
+			return this.unfinished;
+		}
+
+		public double getWinRate(final Game.PlayerIdentifier player) {
+			return (this.games == 0) ? 0 : (double) this.getWins(player) / this.games;
+		}
+
+		public double getAverageLength() {
+			return (this.games == 0) ? 0 : (double) this.totalMoves / this.games;
+		}
+
+		public long getLengthBucket(final int bucket) {
+			return this.lengths[bucket];
+		}
+
+		// Games the player ended with points in the same bucket as these, clamped to the histogram's range
+		public long getPointsCount(final Game.PlayerIdentifier player, final int points) {
+			return ((player == Game.PlayerIdentifier.P1) ? this.player1Points : this.player2Points)[pointsSlot(points)];
+		}
+
+		public double getGamesPerSecond() {
+			return (this.elapsedNanos == 0) ? 0 : this.games * 1e9 / this.elapsedNanos;
+		}
+
+		void add(final Game game, final int moves) {
+			this.games++;
+			this.totalMoves += moves;
+			this.lengths[Math.min(32 - Integer.numberOfLeadingZeros(moves), LENGTH_BUCKETS - 1)]++;
+			this.player1Points[pointsSlot(game.getPoints(Game.PlayerIdentifier.P1))]++;
+			this.player2Points[pointsSlot(game.getPoints(Game.PlayerIdentifier.P2))]++;
+
+			if (game.getIsRunning()) {
+				this.unfinished++;
+			}
+
+			else if (game.getWinner() == Game.PlayerIdentifier.P1) {
+				this.player1Wins++;
+			}
+
+			else if (game.getWinner() == Game.PlayerIdentifier.P2) {
+				this.player2Wins++;
+			}
+
+			else {
+				this.draws++;
+			}
+		}
+
+		void merge(final Results other) {
+			this.games += other.games;
+			this.player1Wins += other.player1Wins;
+			this.player2Wins += other.player2Wins;
+			this.draws += other.draws;
+			this.unfinished += other.unfinished;
+			this.totalMoves += other.totalMoves;
+
+			for (int bucket = 0; bucket < LENGTH_BUCKETS; bucket++) {
+				this.lengths[bucket] += other.lengths[bucket];
+			}
+
+			for (int slot = 0; slot < this.player1Points.length; slot++) {
+				this.player1Points[slot] += other.player1Points[slot];
+				this.player2Points[slot] += other.player2Points[slot];
+			}
+		}
+
+		private static int pointsSlot(final int points) {
+			return (Math.min(Math.max(points, POINTS_HISTOGRAM_MIN), POINTS_HISTOGRAM_MAX) - POINTS_HISTOGRAM_MIN)
+					/ POINTS_BUCKET_WIDTH;
+		}
+
+		@Override
+		public String toString() {
+			final StringBuilder report = new StringBuilder();
+
+			report.append(String.format("%d games in %.2f s, %.0f games/s\n", this.games, this.elapsedNanos / 1e9,
+					this.getGamesPerSecond()));
+			report.append(String.format("P1 wins %.2f%%, P2 wins %.2f%%, draws %d, unfinished %d\n",
+					this.getWinRate(Game.PlayerIdentifier.P1) * 100, this.getWinRate(Game.PlayerIdentifier.P2) * 100,
+					this.draws, this.unfinished));
+			report.append(String.format("Average length %.1f moves\n", this.getAverageLength()));
+			report.append("Moves\tGames\n");
+
+			for (int bucket = 0; bucket < LENGTH_BUCKETS; bucket++) {
+				if (this.lengths[bucket] != 0) {
+					report.append((bucket == 0) ? 0 : 1L << (bucket - 1)).append("+\t").append(this.lengths[bucket])
+							.append('\n');
+				}
+			}
+
+			report.append("Points\tP1\tP2\n");
+
+			for (int slot = 0; slot < this.player1Points.length; slot++) {
+				if (this.player1Points[slot] != 0 || this.player2Points[slot] != 0) {
+					report.append(slot * POINTS_BUCKET_WIDTH + POINTS_HISTOGRAM_MIN).append("+\t")
+							.append(this.player1Points[slot]).append('\t').append(this.player2Points[slot]).append('\n');
+				}
+			}
+
+			return report.toString();
+		}
+	}
+
+	// Arguments: games rows columns [player1 policy] [player2 policy] [threads] [first seed]
+	public static void main(final String[] args) {
+		if (args.length < 3) {
+			System.out.println("Usage: GameSimulator games rows columns [player1 policy] [player2 policy] [threads] "
+					+ "[first seed]\nPolicies: " + String.join(", ", MovePolicy.names()));
+			return;
+		}
+
+		final long games = Long.parseLong(args[0]);
+		final int rows = Integer.parseInt(args[1]);
+		final int columns = Integer.parseInt(args[2]);
+		final String player1Name = (args.length > 3) ? args[3] : GreedyMovePolicy.NAME;
+		final String player2Name = (args.length > 4) ? args[4] : GreedyMovePolicy.NAME;
+		final int threads = (args.length > 5) ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+		final long firstSeed = (args.length > 6) ? Long.parseLong(args[6]) : RandomSource.newSeed();
+
+		MovePolicy.byName(player1Name); // Fails early on unknown names
+		MovePolicy.byName(player2Name);
+
+		final int moveLimit = (int) Math.min(64L * (rows | 1) * (columns | 1), Integer.MAX_VALUE);
+		final GameSimulator simulator = new GameSimulator(rows, columns, () -> MovePolicy.byName(player1Name),
+				() -> MovePolicy.byName(player2Name), moveLimit);
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+
+		try {
+			System.out.printf("%s vs %s on %d by %d, first seed %d, %d threads\n", player1Name, player2Name, rows,
+					columns, firstSeed, threads);
+			System.out.print(simulator.run(firstSeed, games, pool));
+		}
+
+		finally {
+			pool.shutdown();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+// The rendered text of one cell, built once from an entity's renderChars and renderColors.
+// Holds every line of the cell with its ANSI codes already in place, with and without the highlight
+public final class Glyph {
+	private static final Color HIGHLIGHT = Color.CGREYBG;
+
+	public static final Glyph EMPTY = new Glyph(new char[][] {
+			{ Game.BLANK_SPACE_CHAR.charAt(0), Game.BLANK_SPACE_CHAR.charAt(0) },
+			{ Game.BLANK_SPACE_CHAR.charAt(0), Game.BLANK_SPACE_CHAR.charAt(0) }
+	}, null);
+
+	private final String[] lines = new String[Entity.DIMENSIONS * 2]; // Plain lines first, then highlighted
+
+	private Glyph(final char[][] chars, final Color[][] colors) {
+		for (int rowOfEntity = 0; rowOfEntity < Entity.DIMENSIONS; rowOfEntity++) {
+			this.lines[rowOfEntity] = renderLine(chars, colors, rowOfEntity, Color.NONE);
+			this.lines[Entity.DIMENSIONS + rowOfEntity] = renderLine(chars, colors, rowOfEntity, HIGHLIGHT);
+		}
+	}
+
+	public static Glyph of(final Entity entity) {
+		if (entity == null) {
+			return EMPTY;
+		}
+
+		return new Glyph(entity.renderChars(), entity.renderColors());
+	}
+
+	public String line(final int rowOfEntity, final boolean highlighted) {
+		return this.lines[(highlighted ? Entity.DIMENSIONS : 0) + rowOfEntity];
+	}
+
+	public void appendLine(final StringBuilder builder, final int rowOfEntity, final boolean highlighted) {
+		builder.append(this.line(rowOfEntity, highlighted));
+	}
+
+	// Char | Color | Reset per column when colored, otherwise the chars between one color and reset
+	private static String renderLine(final char[][] chars, final Color[][] colors, final int rowOfEntity,
+			final Color background) {
+		final String colorReset = Color.CEND.getValue();
+		final StringBuilder line = new StringBuilder();
+
+		if (chars == null) {
+			return "";
+		}
+
+		if (colors != null) {
+			for (int columnOfEntity = 0; columnOfEntity < Entity.DIMENSIONS; columnOfEntity++) {
+				line.append(background.getValue())
+						.append(colors[rowOfEntity][columnOfEntity].getValue())
+						.append(chars[rowOfEntity][columnOfEntity])
+						.append(colorReset);
+			}
+
+			return line.toString();
+		}
+
+		line.append(background.getValue());
+
+		for (int columnOfEntity = 0; columnOfEntity < Entity.DIMENSIONS; columnOfEntity++) {
+			line.append(chars[rowOfEntity][columnOfEntity]);
+		}
+
+		return line.append(colorReset).toString();
+	}
+}
\ No newline at end of file
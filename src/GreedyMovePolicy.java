@@ -0,0 +1,49 @@
+// Steps to the neighbour closest to the opponent's endpoint, or the next closest while the opponent stands in the
+// way. Ties are broken at random, so two greedy players meeting in a corridor do not block each other forever.
+// Wastes a point only when it cannot step anywhere
+public final class GreedyMovePolicy implements MovePolicy {
+	public static final String NAME = "greedy";
+
+	private static final int[] DIRECTION_MOVES = {
+			Game.MOVE_NORTH, Game.MOVE_EAST, Game.MOVE_SOUTH, Game.MOVE_WEST
+	};
+	private static final Cordinate.Direction[] DIRECTIONS = {
+			Cordinate.Direction.North, Cordinate.Direction.East, Cordinate.Direction.South, Cordinate.Direction.West
+	};
+
+	public String getName() {
+		return NAME;
+	}
+
+	public int chooseMove(final Game game, final RandomSource random) {
+		final int moveMask = game.viableMoveMask();
+		final Game.PlayerIdentifier player = game.getTurn();
+		final DistanceField goal = game.getEndpointDistances(player.opposite());
+		final long position = game.getPackedPlayerPosition(player);
+
+		int bestMove = moveMask & Game.MOVE_WASTE;
+		int bestDistance = Integer.MAX_VALUE;
+		int ties = 0;
+
+		for (int moveIndex = 0; moveIndex < DIRECTION_MOVES.length; moveIndex++) {
+			if ((moveMask & DIRECTION_MOVES[moveIndex]) == 0) {
+				continue;
+			}
+
+			final int fieldDistance = goal.distance(PackedCordinate.step(position, DIRECTIONS[moveIndex]));
+			final int distance = (fieldDistance == DistanceField.UNREACHABLE) ? Integer.MAX_VALUE - 1 : fieldDistance;
+
+			if (distance < bestDistance) {
+				bestMove = DIRECTION_MOVES[moveIndex];
+				bestDistance = distance;
+				ties = 1;
+			}
+
+			else if (distance == bestDistance && random.nextInt(++ties) == 0) { // Each tied move kept with equal chance
+				bestMove = DIRECTION_MOVES[moveIndex];
+			}
+		}
+
+		return bestMove;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+// Flat array of 64 bit words that grids keep their cells in
+public interface GridStorage {
+	enum Backend {
+		Heap, OffHeap; // OffHeap keeps the words in direct buffers, outside of what the garbage collector scans
+
+		public GridStorage allocate(final long wordCount) {
+			switch (this) {
+				case Heap:
+					return new HeapGridStorage(wordCount);
+				case OffHeap:
+					return new OffHeapGridStorage(wordCount);
+			}
+
+			throw new IllegalStateException("Unknown backend " + this);
+		}
+	};
+
+	Backend getBackend();
+
+	long getWordCount();
+
+	long getWord(long wordIndex);
+
+	void setWord(long wordIndex, long word);
+
+	// Atomic, safe while other threads update different bits of the same word
+	void orWordConcurrent(long wordIndex, long mask);
+
+	void andWordConcurrent(long wordIndex, long mask);
+
+	void fill(long word);
+}
\ No newline at end of file
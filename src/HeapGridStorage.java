@@ -0,0 +1,45 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+public final class HeapGridStorage implements GridStorage {
+	private static final VarHandle WORDS = MethodHandles.arrayElementVarHandle(long[].class);
+
+	private final long[] words;
+
+	public HeapGridStorage(final long wordCount) {
+		if (wordCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException(wordCount + " words do not fit in a Java array, use the off-heap backend");
+		}
+
+		this.words = new long[(int) wordCount];
+	}
+
+	public Backend getBackend() {
+		return Backend.Heap;
+	}
+
+	public long getWordCount() {
+		return this.words.length;
+	}
+
+	public long getWord(final long wordIndex) {
+		return this.words[(int) wordIndex];
+	}
+
+	public void setWord(final long wordIndex, final long word) {
+		this.words[(int) wordIndex] = word;
+	}
+
+	public void orWordConcurrent(final long wordIndex, final long mask) {
+		WORDS.getAndBitwiseOr(this.words, (int) wordIndex, mask);
+	}
+
+	public void andWordConcurrent(final long wordIndex, final long mask) {
+		WORDS.getAndBitwiseAnd(this.words, (int) wordIndex, mask);
+	}
+
+	public void fill(final long word) {
+		Arrays.fill(this.words, word);
+	}
+}
\ No newline at end of file
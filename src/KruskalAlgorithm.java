@@ -0,0 +1,72 @@
+// Randomised Kruskal: walls are visited in random order and removed when they separate two sets
+public final class KruskalAlgorithm extends CarvingMazeAlgorithm {
+	public static final String NAME = "kruskal";
+
+	public String getName() {
+		return NAME;
+	}
+
+	protected void carve(final RandomSource random) {
+		final int cells = this.cellCount();
+		final int[] parents = new int[cells];
+
+		for (int cell = 0; cell < cells; cell++) {
+			parents[cell] = cell;
+			this.openCell(cell);
+		}
+
+		// Each edge is cell * 2 + 0 for the wall to the east, cell * 2 + 1 for the wall to the south
+		int edgeCount = 0;
+		final int[] edges = new int[cells * 2];
+
+		for (int cell = 0; cell < cells; cell++) {
+			if (this.neighbour(cell, EAST) != -1) {
+				edges[edgeCount++] = cell * 2;
+			}
+
+			if (this.neighbour(cell, SOUTH) != -1) {
+				edges[edgeCount++] = cell * 2 + 1;
+			}
+		}
+
+		for (int index = edgeCount - 1; index > 0; index--) {
+			final int swapIndex = random.nextInt(index + 1);
+			final int edge = edges[index];
+
+			edges[index] = edges[swapIndex];
+			edges[swapIndex] = edge;
+		}
+
+		int unions = 0;
+
+		for (int index = 0; index < edgeCount && unions < cells - 1; index++) {
+			final int cell = edges[index] >>> 1;
+			final int otherCell = this.neighbour(cell, ((edges[index] & 1) == 0) ? EAST : SOUTH);
+			final int root = find(parents, cell);
+			final int otherRoot = find(parents, otherCell);
+
+			if (root != otherRoot) {
+				parents[root] = otherRoot;
+				this.openPassage(cell, otherCell);
+				unions++;
+			}
+		}
+	}
+
+	private static int find(final int[] parents, int cell) {
+		int root = cell;
+
+		while (parents[root] != root) {
+			root = parents[root];
+		}
+
+		while (parents[cell] != root) { // Path compression
+			final int next = parents[cell];
+
+			parents[cell] = root;
+			cell = next;
+		}
+
+		return root;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+public interface MazeAlgorithm {
+	String getName();
+
+	// The maze grid starts out all Blank, a set bit is left behind for every Block
+	void generate(MazeGenerator maze);
+
+	static String[] names() {
+		return new String[] {
+				RecursiveDivisionAlgorithm.NAME,
+				KruskalAlgorithm.NAME,
+				BacktrackerAlgorithm.NAME,
+				WilsonAlgorithm.NAME,
+				EllerAlgorithm.NAME
+		};
+	}
+
+	static MazeAlgorithm byName(final String name) {
+		switch (name) {
+			case RecursiveDivisionAlgorithm.NAME:
+				return new RecursiveDivisionAlgorithm();
+			case KruskalAlgorithm.NAME:
+				return new KruskalAlgorithm();
+			case BacktrackerAlgorithm.NAME:
+				return new BacktrackerAlgorithm();
+			case WilsonAlgorithm.NAME:
+				return new WilsonAlgorithm();
+			case EllerAlgorithm.NAME:
+				return new EllerAlgorithm();
+
+			default:
+				throw new IllegalArgumentException("Unknown maze algorithm: " + name);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Versioned binary maze file. All values are little endian:
+// 0 magic "MAZE" | 4 version | 8 rows | 12 columns | 16 seed | 24 algorithm name, 32 ASCII bytes zero padded
+// 56 reserved | 64 cells, one bit per cell in 64 bit words exactly as BitGrid stores them (set bit is a Block)
+public final class MazeFile {
+	public static final int MAGIC = 0x455A414D; // "MAZE" read as a little endian int
+	public static final int VERSION = 1;
+	public static final int HEADER_SIZE = 64;
+
+	private static final int ALGORITHM_OFFSET = 24;
+	private static final int ALGORITHM_LENGTH = 32;
+	private static final long SEGMENT_SIZE = 1L << 30; // A single MappedByteBuffer cannot exceed 2 GB
+
+	private final int rows;
+	private final int columns;
+	private final long seed;
+	private final String algorithm;
+	private final MappedByteBuffer[] segments;
+
+	private MazeFile(final int rows, final int columns, final long seed, final String algorithm,
+			final MappedByteBuffer[] segments) {
+		this.rows = rows;
+		this.columns = columns;
+		this.seed = seed;
+		this.algorithm = algorithm;
+		this.segments = segments;
+	}
+
+	public static void write(final Path path, final MazeGenerator maze) throws IOException {
+		final BitGrid grid = maze.getGrid();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+		final byte[] algorithmName = maze.getAlgorithm().getName().getBytes(StandardCharsets.US_ASCII);
+
+		if (algorithmName.length > ALGORITHM_LENGTH) {
+			throw new IllegalArgumentException("Algorithm name is too long for the header: " + maze.getAlgorithm().getName());
+		}
+
+		buffer.putInt(MAGIC);
+		buffer.putInt(VERSION);
+		buffer.putInt(maze.getRows());
+		buffer.putInt(maze.getColumns());
+		buffer.putLong(maze.getSeed());
+		buffer.put(algorithmName);
+		buffer.position(HEADER_SIZE);
+
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			for (long wordIndex = 0; wordIndex < grid.getWordCount(); wordIndex++) {
+				if (buffer.remaining() < Long.BYTES) {
+					writeFully(channel, buffer);
+				}
+
+				buffer.putLong(grid.getWord(wordIndex));
+			}
+
+			writeFully(channel, buffer);
+		}
+	}
+
+	private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+
+	// Maps the file read-only, nothing past the header is read until a cell is looked up
+	public static MazeFile open(final Path path) throws IOException {
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final long fileSize = channel.size();
+
+			if (fileSize < HEADER_SIZE) {
+				throw new IOException(path + " is too small to be a maze file");
+			}
+
+			final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+					.order(ByteOrder.LITTLE_ENDIAN);
+
+			if (header.getInt(0) != MAGIC) {
+				throw new IOException(path + " is not a maze file");
+			}
+
+			if (header.getInt(4) != VERSION) {
+				throw new IOException(path + " has unsupported maze file version " + header.getInt(4));
+			}
+
+			final int rows = header.getInt(8);
+			final int columns = header.getInt(12);
+			final long seed = header.getLong(16);
+			final long bodySize = (((long) rows * columns + 63) >>> 6) * Long.BYTES;
+
+			if (rows < 0 || columns < 0 || fileSize != HEADER_SIZE + bodySize) {
+				throw new IOException(path + " is truncated or has a corrupt header");
+			}
+
+			final byte[] algorithmName = new byte[ALGORITHM_LENGTH];
+			int algorithmLength = 0;
+
+			header.position(ALGORITHM_OFFSET);
+			header.get(algorithmName);
+
+			while (algorithmLength < ALGORITHM_LENGTH && algorithmName[algorithmLength] != 0) {
+				algorithmLength++;
+			}
+
+			final MappedByteBuffer[] segments = new MappedByteBuffer[(int) ((bodySize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+
+			for (int segment = 0; segment < segments.length; segment++) {
+				final long segmentStart = segment * SEGMENT_SIZE;
+
+				segments[segment] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + segmentStart,
+						Math.min(SEGMENT_SIZE, bodySize - segmentStart));
+			}
+
+			return new MazeFile(rows, columns, seed,
+					new String(algorithmName, 0, algorithmLength, StandardCharsets.US_ASCII), segments);
+		}
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public String getAlgorithm() {
+		return this.algorithm;
+	}
+
+	public boolean inBounds(final Cordinate cordinate) {
+		return this.inBounds(cordinate.getX(), cordinate.getY());
+	}
+
+	public boolean inBounds(final int x, final int y) {
+		return 0 <= x && x < this.columns &&
+				0 <= y && y < this.rows;
+	}
+
+	public MazeGenerator.Cell at(final Cordinate position) {
+		return this.at(position.getX(), position.getY());
+	}
+
+	public MazeGenerator.Cell at(final int x, final int y) {
+		return this.isBlock(x, y) ? MazeGenerator.Cell.Block : MazeGenerator.Cell.Blank;
+	}
+
+	// Little endian words mean cell i sits in body byte i / 8 at bit i % 8
+	public boolean isBlock(final int x, final int y) {
+		final long cellIndex = (long) y * this.columns + x;
+		final long byteOffset = cellIndex >>> 3;
+		final byte cells = this.segments[(int) (byteOffset / SEGMENT_SIZE)].get((int) (byteOffset % SEGMENT_SIZE));
+
+		return (cells & (1 << (cellIndex & 7))) != 0;
+	}
+}
\ No newline at end of file
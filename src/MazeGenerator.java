@@ -1,51 +1,297 @@
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public final class MazeGenerator {
 	public enum Cell {
 		Block, Blank
 	};
 
-	Cell[][] maze;
+	public static final long PARALLEL_THRESHOLD = 1 << 18; // Cells per section before it is split off as a task
+	private static final int NO_WALL = Integer.MIN_VALUE; // ~NO_WALL would be row Integer.MAX_VALUE, which never exists
+
+	final BitGrid maze; // A set bit is a Block, every cell starts Blank
 
 	final int rows;
 	final int columns;
 
+	private final long seed;
+	private final RandomSource random;
+	private final MazeAlgorithm algorithm;
+
 	public MazeGenerator(final int rows, final int columns) {
+		this(rows, columns, RandomSource.newSeed());
+	}
+
+	public MazeGenerator(final int rows, final int columns, final long seed) {
+		this(rows, columns, seed, new RecursiveDivisionAlgorithm());
+	}
+
+	public MazeGenerator(final int rows, final int columns, final long seed, final MazeAlgorithm algorithm) {
+		this(rows, columns, seed, algorithm, GridStorage.Backend.Heap);
+	}
+
+	public MazeGenerator(final int rows, final int columns, final long seed, final MazeAlgorithm algorithm,
+			final GridStorage.Backend backend) {
 		this.rows = rows;
 		this.columns = columns;
+		this.seed = seed;
+		this.random = RandomSource.seeded(seed);
+		this.algorithm = algorithm;
+
+		this.maze = new BitGrid(rows, columns, backend);
+	}
 
-		this.maze = new Cell[rows][columns];
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	public MazeAlgorithm getAlgorithm() {
+		return this.algorithm;
+	}
+
+	RandomSource getRandom() {
+		return this.random;
+	}
+
+	public BitGrid getGrid() {
+		return this.maze;
+	}
+
+	// Compatibility view, allocates a full Cell[][] copy of the maze
+	public Cell[][] getMaze() {
+		final Cell[][] cellGrid = new Cell[this.rows][this.columns];
 
 		for (int rowIndex = 0; rowIndex < this.rows; rowIndex++) {
 			for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
-				maze[rowIndex][columnIndex] = Cell.Blank;
+				cellGrid[rowIndex][columnIndex] = this.at(columnIndex, rowIndex);
 			}
 		}
-	}
 
-	public Cell[][] getMaze() {
-		return this.maze;
+		return cellGrid;
 	}
 
 	public Cell at(final Cordinate position) {
-		return this.maze[position.getY()][position.getX()];
+		return this.at(position.getX(), position.getY());
+	}
+
+	public Cell at(final int x, final int y) {
+		return this.maze.get(x, y) ? Cell.Block : Cell.Blank;
+	}
+
+	public boolean isBlock(final int x, final int y) {
+		return this.maze.get(x, y);
 	}
 
 	public boolean inBounds(final Cordinate cordinate) {
-		final int x = cordinate.getX();
-		final int y = cordinate.getY();
+		return this.inBounds(cordinate.getX(), cordinate.getY());
+	}
 
+	public boolean inBounds(final int x, final int y) {
 		return (0 <= x && x < columns &&
 				0 <= y && y < rows);
 	}
 
 	public void generate() {
+		this.algorithm.generate(this);
+	}
+
+	// Recursive division through divide(), kept for reference. generateIterative() produces the same maze
+	public void generateRecursive() {
 		final Cordinate sectionUpperLeft = new Cordinate(0, 0);
 		final Cordinate sectionLowerRight = new Cordinate(columns, rows);
 
 		divide(sectionUpperLeft, sectionLowerRight);
 	}
 
+	// Same mazes as generate(), but driven from an explicit stack of int rectangles instead of recursion
+	public void generateIterative() {
+		this.divideIterative(0, 0, this.columns, this.rows, this.random, false);
+	}
+
+	// Sections above PARALLEL_THRESHOLD cells are split as fork/join tasks, each with its own random stream
+	public void generateParallel(final ForkJoinPool pool) {
+		pool.invoke(new DivideTask(0, 0, this.columns, this.rows, this.random.split()));
+	}
+
+	private final class DivideTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int upperLeftX;
+		private final int upperLeftY;
+		private final int lowerRightX;
+		private final int lowerRightY;
+		private final RandomSource random;
+
+		DivideTask(final int upperLeftX, final int upperLeftY, final int lowerRightX, final int lowerRightY,
+				final RandomSource random) {
+			this.upperLeftX = upperLeftX;
+			this.upperLeftY = upperLeftY;
+			this.lowerRightX = lowerRightX;
+			this.lowerRightY = lowerRightY;
+			this.random = random;
+		}
+
+		@Override
+		protected void compute() {
+			final long sectionArea = (long) (this.lowerRightX - this.upperLeftX) * (this.lowerRightY - this.upperLeftY);
+
+			if (sectionArea <= PARALLEL_THRESHOLD) {
+				divideIterative(this.upperLeftX, this.upperLeftY, this.lowerRightX, this.lowerRightY, this.random, true);
+				return;
+			}
+
+			final int wall = splitSection(this.upperLeftX, this.upperLeftY, this.lowerRightX, this.lowerRightY, this.random,
+					true);
+
+			if (wall == NO_WALL) {
+				return;
+			}
+
+			if (wall >= 0) { // Vertical line at x = wall
+				invokeAll(
+						new DivideTask(this.upperLeftX, this.upperLeftY, wall, this.lowerRightY, this.random.split()),
+						new DivideTask(wall, this.upperLeftY, this.lowerRightX, this.lowerRightY, this.random.split()));
+			}
+
+			else { // Horizontal line at y = ~wall
+				invokeAll(
+						new DivideTask(this.upperLeftX, this.upperLeftY, this.lowerRightX, ~wall, this.random.split()),
+						new DivideTask(this.upperLeftX, ~wall, this.lowerRightX, this.lowerRightY, this.random.split()));
+			}
+		}
+	}
+
+	private void divideIterative(final int startUpperLeftX, final int startUpperLeftY,
+			final int startLowerRightX, final int startLowerRightY,
+			final RandomSource random, final boolean concurrent) {
+		int[] sections = new int[64]; // Packed as upperLeftX, upperLeftY, lowerRightX, lowerRightY
+		int stackSize = 0;
+
+		sections[stackSize++] = startUpperLeftX;
+		sections[stackSize++] = startUpperLeftY;
+		sections[stackSize++] = startLowerRightX;
+		sections[stackSize++] = startLowerRightY;
+
+		while (stackSize != 0) {
+			final int lowerRightY = sections[--stackSize];
+			final int lowerRightX = sections[--stackSize];
+			final int upperLeftY = sections[--stackSize];
+			final int upperLeftX = sections[--stackSize];
+
+			final int wall = this.splitSection(upperLeftX, upperLeftY, lowerRightX, lowerRightY, random, concurrent);
+
+			if (wall == NO_WALL) {
+				continue;
+			}
+
+			if (sections.length - stackSize < 8) {
+				sections = Arrays.copyOf(sections, sections.length * 2);
+			}
+
+			// Pushed in reverse so the first half is divided first
+			if (wall >= 0) { // Vertical line at x = wall
+				sections[stackSize++] = wall;
+				sections[stackSize++] = upperLeftY;
+				sections[stackSize++] = lowerRightX;
+				sections[stackSize++] = lowerRightY;
+
+				sections[stackSize++] = upperLeftX;
+				sections[stackSize++] = upperLeftY;
+				sections[stackSize++] = wall;
+				sections[stackSize++] = lowerRightY;
+			}
+
+			else { // Horizontal line at y = ~wall
+				sections[stackSize++] = upperLeftX;
+				sections[stackSize++] = ~wall;
+				sections[stackSize++] = lowerRightX;
+				sections[stackSize++] = lowerRightY;
+
+				sections[stackSize++] = upperLeftX;
+				sections[stackSize++] = upperLeftY;
+				sections[stackSize++] = lowerRightX;
+				sections[stackSize++] = ~wall;
+			}
+		}
+	}
+
+	// Draws one wall across the section. Returns its x for a vertical line, ~y for a horizontal
+	// line, or NO_WALL if the section is too small to divide
+	private int splitSection(final int upperLeftX, final int upperLeftY, final int lowerRightX, final int lowerRightY,
+			final RandomSource random, final boolean concurrent) {
+		final int sectionWidth = lowerRightX - upperLeftX;
+		final int sectionHeight = lowerRightY - upperLeftY;
+
+		if (sectionWidth < 3 || sectionHeight < 3) {
+			return NO_WALL;
+		}
+
+		// Draws are made in the same order as divide() so both produce the same maze
+		if ((sectionWidth == sectionHeight && discreteRandInclusive(random, 0, 1) == 1) || sectionWidth > sectionHeight) { // Vertical line
+			final int wallX = upperLeftX + 2 + discreteRandInclusive(random, 0, (sectionWidth - 3) / 2) * 2;
+			final int holeY = upperLeftY + discreteRandInclusive(random, 0, sectionHeight / 2) * 2 + 1;
+
+			this.makeVerticalMazeLine(wallX, upperLeftY, lowerRightY, holeY, concurrent);
+
+			return wallX;
+		}
+
+		final int wallY = upperLeftY + 2 + discreteRandInclusive(random, 0, (sectionHeight - 3) / 2) * 2;
+		final int holeX = upperLeftX + discreteRandInclusive(random, 0, sectionWidth / 2) * 2 + 1;
+
+		this.makeHorizontalMazeLine(wallY, upperLeftX, lowerRightX, holeX, concurrent);
+
+		return ~wallY;
+	}
+
+	// Blocks x = lineX from startY to endY inclusive (clipped to the maze) except for the hole
+	private void makeVerticalMazeLine(final int lineX, final int startY, final int endY, final int holeY,
+			final boolean concurrent) {
+		final int lastY = Math.min(endY, this.rows - 1);
+
+		if (concurrent) {
+			for (int y = startY; y <= lastY; y++) {
+				this.maze.setConcurrent(this.maze.index(lineX, y), true);
+			}
+
+			this.maze.setConcurrent(this.maze.index(lineX, holeY), false);
+			return;
+		}
+
+		for (int y = startY; y <= lastY; y++) {
+			this.maze.set(lineX, y, true);
+		}
+
+		this.maze.set(lineX, holeY, false);
+	}
+
+	// Blocks y = lineY from startX to endX inclusive (clipped to the maze) except for the hole
+	private void makeHorizontalMazeLine(final int lineY, final int startX, final int endX, final int holeX,
+			final boolean concurrent) {
+		final int lastX = Math.min(endX, this.columns - 1);
+		final long lineStart = this.maze.index(startX, lineY);
+		final long lineEnd = this.maze.index(lastX, lineY) + 1;
+
+		if (concurrent) {
+			this.maze.setRangeConcurrent(lineStart, lineEnd, true);
+			this.maze.setConcurrent(this.maze.index(holeX, lineY), false);
+			return;
+		}
+
+		this.maze.setRange(lineStart, lineEnd, true);
+		this.maze.set(holeX, lineY, false);
+	}
+
 	// Divdes the seciton in two
 	public void divide(final Cordinate sectionUpperLeft, final Cordinate sectionLowerRight) {
 		final int sectionWidth = sectionLowerRight.getX() - sectionUpperLeft.getX();
@@ -58,16 +304,16 @@ public final class MazeGenerator {
 			return;
 		}
 
-		if ((sectionWidth == sectionHeight && discreteRandInclusive(0, 1) == 1) || sectionWidth > sectionHeight) { // Wide
+		if ((sectionWidth == sectionHeight && discreteRandInclusive(this.random, 0, 1) == 1) || sectionWidth > sectionHeight) { // Wide
 																													// section,
 																													// creates
 																													// a
 																													// vertical
 																													// line
 			final ArrayList<Cordinate> possibleStarts = possibleWallStarts(sectionUpperLeft, sectionUpperRight);
-			final Cordinate wallStart = randChoose(possibleStarts);
+			final Cordinate wallStart = randChoose(this.random, possibleStarts);
 			final Cordinate wallEnd = wallStart.inDirection(Cordinate.Direction.South, sectionHeight);
-			final Cordinate hole = generateHoleInLine(wallStart, wallEnd);
+			final Cordinate hole = generateHoleInLine(this.random, wallStart, wallEnd);
 
 			this.makeMazeLine(wallStart, wallEnd, hole);
 
@@ -77,9 +323,9 @@ public final class MazeGenerator {
 
 		else { // Thin section, creates a horizontal line
 			final ArrayList<Cordinate> possibleStarts = possibleWallStarts(sectionUpperLeft, sectionLowerLeft);
-			final Cordinate wallStart = randChoose(possibleStarts);
+			final Cordinate wallStart = randChoose(this.random, possibleStarts);
 			final Cordinate wallEnd = wallStart.inDirection(Cordinate.Direction.East, sectionWidth);
-			final Cordinate hole = generateHoleInLine(wallStart, wallEnd);
+			final Cordinate hole = generateHoleInLine(this.random, wallStart, wallEnd);
 
 			this.makeMazeLine(wallStart, wallEnd, hole);
 
@@ -96,14 +342,23 @@ public final class MazeGenerator {
 			return;
 		}
 
-		for (final Cordinate blockCordinate : pointStart.allInBetween(pointEnd, false)) {
-			if (this.inBounds(blockCordinate)) {
-				this.maze[blockCordinate.getY()][blockCordinate.getX()] = Cell.Block;
+		final long lineStart = PackedCordinate.pack(pointStart);
+		final long lineEnd = PackedCordinate.pack(pointEnd);
+		final int lineLength = PackedCordinate.distance(lineStart, lineEnd); // -1 draws nothing
+		final Cordinate.Direction lineDirection = PackedCordinate.directionTowards(lineStart, lineEnd);
+
+		for (int step = 0; step <= lineLength; step++) {
+			final long blockCordinate = PackedCordinate.step(lineStart, lineDirection, step);
+			final int x = PackedCordinate.x(blockCordinate);
+			final int y = PackedCordinate.y(blockCordinate);
+
+			if (this.inBounds(x, y)) {
+				this.maze.set(x, y, true);
 			}
 		}
 
 		if (hole != null) {
-			this.maze[hole.getY()][hole.getX()] = Cell.Blank;
+			this.maze.set(hole.getX(), hole.getY(), false);
 		}
 	}
 
@@ -117,12 +372,16 @@ public final class MazeGenerator {
 		final Cordinate.Direction lineDirection = lineStart.directionTowards(lineEnd);
 		ArrayList<Cordinate> possibleStarts = new ArrayList<Cordinate>();
 
-		final Cordinate possibleBegin = lineStart.inDirection(lineDirection, 2);
-		final Cordinate possibleEnd = lineEnd.inDirection(lineDirection.opposite(), 2);
+		final long possibleBegin = PackedCordinate.step(PackedCordinate.pack(lineStart), lineDirection, 2);
+		final long possibleEnd = PackedCordinate.step(PackedCordinate.pack(lineEnd), lineDirection.opposite(), 2);
+		final Cordinate.Direction walkDirection = PackedCordinate.directionTowards(possibleBegin, possibleEnd);
 
-		for (final Cordinate lineElement : possibleBegin.allInBetween(possibleEnd, true)) {
-			if (lineElement.getX() % 2 == 0 && lineElement.getY() % 2 == 0) { // Must be even
-				possibleStarts.add(lineElement);
+		// Walks one step past possibleEnd, like allInBetween(possibleEnd, true)
+		for (int step = 0; step <= PackedCordinate.distance(possibleBegin, possibleEnd) + 1; step++) {
+			final long lineElement = PackedCordinate.step(possibleBegin, walkDirection, step);
+
+			if (PackedCordinate.x(lineElement) % 2 == 0 && PackedCordinate.y(lineElement) % 2 == 0) { // Must be even
+				possibleStarts.add(PackedCordinate.toCordinate(lineElement));
 			}
 		}
 
@@ -132,6 +391,11 @@ public final class MazeGenerator {
 	// Requires both cordinates to be on the same horizontal or vertical axis.
 	// Returns null otherwise
 	static Cordinate generateHoleInLine(final Cordinate pointStart, final Cordinate pointEnd) {
+		return generateHoleInLine(RandomSource.THREAD_LOCAL, pointStart, pointEnd);
+	}
+
+	static Cordinate generateHoleInLine(final RandomSource random, final Cordinate pointStart,
+			final Cordinate pointEnd) {
 		final int lineLength = pointStart.distanceFrom(pointEnd);
 
 		if (lineLength == -1 || lineLength < 2) {
@@ -140,52 +404,62 @@ public final class MazeGenerator {
 
 		final Cordinate.Direction lineDirection = pointStart.directionTowards(pointEnd);
 
-		final int position = discreteRandInclusive(0, lineLength / 2) * 2 + 1; // Must be odd
+		final int position = discreteRandInclusive(random, 0, lineLength / 2) * 2 + 1; // Must be odd
 		final Cordinate generatedHole = pointStart.inDirection(lineDirection, position);
 
 		return generatedHole;
 	}
 
 	public static int discreteRandInclusive(final int min, final int max) {
+		return discreteRandInclusive(RandomSource.THREAD_LOCAL, min, max);
+	}
+
+	public static int discreteRandInclusive(final RandomSource random, final int min, final int max) {
 		final int range = max - min;
 
-		return (int) (Math.random() * range) + min;
+		return (int) (random.nextDouble() * range) + min;
 	}
 
 	public static <E> E randChoose(final E[] collection) {
+		return randChoose(RandomSource.THREAD_LOCAL, collection);
+	}
+
+	public static <E> E randChoose(final RandomSource random, final E[] collection) {
 		if (collection == null || collection.length == 0) {
 			return null;
 		}
 
-		return collection[discreteRandInclusive(0, collection.length - 1)];
+		return collection[discreteRandInclusive(random, 0, collection.length - 1)];
 	}
 
 	public static <E> E randChoose(final ArrayList<E> collection) {
+		return randChoose(RandomSource.THREAD_LOCAL, collection);
+	}
+
+	public static <E> E randChoose(final RandomSource random, final ArrayList<E> collection) {
 		if (collection == null || collection.size() == 0) {
 			return null;
 		}
 
-		return collection.get(discreteRandInclusive(0, collection.size() - 1));
+		return collection.get(discreteRandInclusive(random, 0, collection.size() - 1));
 	}
 
 	@Override
 	public String toString() {
-		String gridRepresentation = "";
+		final StringBuilder gridRepresentation = new StringBuilder(
+				Math.toIntExact((long) this.rows * (this.columns + 1) + 32));
 
-		for (final MazeGenerator.Cell[] row : this.maze) {
-			for (final MazeGenerator.Cell value : row) {
-				if (value == Cell.Block) {
-					gridRepresentation += "#";
-				}
+		gridRepresentation.append("rows: ").append(this.rows)
+				.append("\ncolumns: ").append(this.columns).append('\n');
 
-				else {
-					gridRepresentation += " ";
-				}
+		for (int rowIndex = 0; rowIndex < this.rows; rowIndex++) {
+			for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+				gridRepresentation.append(this.maze.get(columnIndex, rowIndex) ? '#' : ' ');
 			}
 
-			gridRepresentation += "\n";
+			gridRepresentation.append('\n');
 		}
 
-		return "rows: " + this.rows + "\ncolumns: " + this.columns + "\n" + gridRepresentation;
+		return gridRepresentation.toString();
 	}
 }
\ No newline at end of file
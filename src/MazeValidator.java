@@ -0,0 +1,351 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Checks a maze in one pass over its rows with a union-find that only holds the sets of the row before, so it can
+ * check a maze while StreamingMazeGenerator produces it. Finds whether the two players' corners are connected,
+ * which is every start cell reaching every endpoint since each player starts on their own endpoint, and whether
+ * the maze is perfect: all of its open cells connected without any loops
+ */
+public final class MazeValidator implements StreamingMazeGenerator.RowConsumer {
+	public static final int VALIDATIONS_PER_TASK = 16; // Mazes checked by one task before it is not split further
+
+	private final int rows;
+	private final int columns;
+
+	// Labels of the row before live in [0, columns), each set relabelled to its first column. Cells of the current
+	// row start in their own set, columns + x, so the two never collide
+	private final int[] parents;
+	private final int[] labels; // Set label of every open cell of the row before, -1 for a Block
+	private final int[] roots; // Scratch for relabelling the current row
+	private final int[] relabelled;
+	private final long[] openBits;
+
+	private int nextRowIndex;
+	private int startLabel = -1; // Set of the upper left corner, -1 once no cell of the row before is in it
+	private long openCells;
+	private long joins; // Unions of two different sets
+	private long loops; // Unions of a set with itself, each closes a loop
+	private boolean cornersConnected;
+
+	public MazeValidator(final int rows, final int columns) {
+		if (rows < 1 || columns < 1) {
+			throw new IllegalArgumentException("A maze needs at least one row and one column");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.parents = new int[2 * columns];
+		this.labels = new int[columns];
+		this.roots = new int[columns];
+		this.relabelled = new int[2 * columns];
+		this.openBits = new long[StreamingMazeGenerator.wordsPerRow(columns)];
+
+		Arrays.fill(this.labels, -1);
+		Arrays.fill(this.relabelled, -1);
+	}
+
+	public static MazeValidator validate(final BitGrid maze) {
+		final MazeValidator validator = new MazeValidator(maze.getRows(), maze.getColumns());
+		final long[] blockBits = new long[StreamingMazeGenerator.wordsPerRow(maze.getColumns())];
+
+		for (int rowIndex = 0; rowIndex < maze.getRows(); rowIndex++) {
+			final long rowStart = maze.index(0, rowIndex);
+
+			for (int wordInRow = 0; wordInRow < blockBits.length; wordInRow++) {
+				blockBits[wordInRow] = maze.getBits(rowStart + ((long) wordInRow << 6));
+			}
+
+			validator.acceptRow(rowIndex, blockBits);
+		}
+
+		return validator;
+	}
+
+	public static MazeValidator validate(final MazeGenerator maze) {
+		return validate(maze.getGrid());
+	}
+
+	// A game board, only walls block
+	public static MazeValidator validate(final CellGrid cells) {
+		final MazeValidator validator = new MazeValidator(cells.getRows(), cells.getColumns());
+		final long[] blockBits = new long[StreamingMazeGenerator.wordsPerRow(cells.getColumns())];
+
+		for (int rowIndex = 0; rowIndex < cells.getRows(); rowIndex++) {
+			Arrays.fill(blockBits, 0);
+
+			for (int columnIndex = 0; columnIndex < cells.getColumns(); columnIndex++) {
+				if (cells.get(columnIndex, rowIndex) == CellGrid.WALL) {
+					blockBits[columnIndex >>> 6] |= 1L << columnIndex;
+				}
+			}
+
+			validator.acceptRow(rowIndex, blockBits);
+		}
+
+		return validator;
+	}
+
+	public static MazeValidator validate(final MazeFile maze) {
+		final MazeValidator validator = new MazeValidator(maze.getRows(), maze.getColumns());
+		final long[] blockBits = new long[StreamingMazeGenerator.wordsPerRow(maze.getColumns())];
+
+		for (int rowIndex = 0; rowIndex < maze.getRows(); rowIndex++) {
+			Arrays.fill(blockBits, 0);
+
+			for (int columnIndex = 0; columnIndex < maze.getColumns(); columnIndex++) {
+				if (maze.isBlock(columnIndex, rowIndex)) {
+					blockBits[columnIndex >>> 6] |= 1L << columnIndex;
+				}
+			}
+
+			validator.acceptRow(rowIndex, blockBits);
+		}
+
+		return validator;
+	}
+
+	// Every maze of the corpus checked on the pool, results in the corpus' order
+	public static MazeValidator[] validateAll(final List<MazeFile> corpus, final ForkJoinPool pool) {
+		final MazeValidator[] results = new MazeValidator[corpus.size()];
+
+		pool.invoke(new ValidateTask(0, results.length, results, mazeIndex -> validate(corpus.get(mazeIndex))));
+
+		return results;
+	}
+
+	// Generates count mazes on the pool, maze i from seed firstSeed + i, and checks each of them
+	public static MazeValidator[] validateGenerated(final int rows, final int columns, final String algorithmName,
+			final long firstSeed, final int count, final ForkJoinPool pool) {
+		MazeAlgorithm.byName(algorithmName); // Fails early on unknown names
+
+		final MazeValidator[] results = new MazeValidator[count];
+
+		pool.invoke(new ValidateTask(0, count, results, mazeIndex -> {
+			final MazeGenerator maze = new MazeGenerator(rows, columns, firstSeed + mazeIndex,
+					MazeAlgorithm.byName(algorithmName));
+			maze.generate();
+
+			return validate(maze);
+		}));
+
+		return results;
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	// Whether every row has been checked, the results below are only final once it has
+	public boolean getIsComplete() {
+		return this.nextRowIndex == this.rows;
+	}
+
+	// Whether the upper left and lower right corners are open and connected
+	public boolean getCornersConnected() {
+		return this.cornersConnected;
+	}
+
+	public boolean getIsPerfect() {
+		return this.loops == 0 && this.getRegionCount() == 1;
+	}
+
+	public long getOpenCells() {
+		return this.openCells;
+	}
+
+	// Groups of open cells connected to each other but not to any other group
+	public long getRegionCount() {
+		return this.openCells - this.joins;
+	}
+
+	// Independent loops: passages that could be walled off without splitting a region
+	public long getLoopCount() {
+		return this.loops;
+	}
+
+	// Rows must come in order, bit x of blockBits set when (x, rowIndex) is a Block
+	@Override
+	public void acceptRow(final int rowIndex, final long[] blockBits) {
+		if (rowIndex != this.nextRowIndex) {
+			throw new IllegalArgumentException("Expected row " + this.nextRowIndex + " but got row " + rowIndex);
+		}
+
+		for (int wordInRow = 0; wordInRow < this.openBits.length; wordInRow++) {
+			final int columnsLeft = this.columns - (wordInRow << 6);
+
+			this.openBits[wordInRow] = ~blockBits[wordInRow] & ((columnsLeft >= 64) ? -1L : (1L << columnsLeft) - 1);
+			this.openCells += Long.bitCount(this.openBits[wordInRow]);
+		}
+
+		// Join every open cell with the open cells to its left and above
+		for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+			if (!this.isOpen(columnIndex)) {
+				continue;
+			}
+
+			final int cell = this.columns + columnIndex;
+			this.parents[cell] = cell;
+
+			if (columnIndex > 0 && this.isOpen(columnIndex - 1)) {
+				this.union(cell - 1, cell);
+			}
+
+			if (this.labels[columnIndex] >= 0) {
+				this.union(this.labels[columnIndex], cell);
+			}
+		}
+
+		final int startRoot = (rowIndex == 0)
+				? (this.isOpen(0) ? this.find(this.columns) : -1)
+				: ((this.startLabel >= 0) ? this.find(this.startLabel) : -1);
+
+		// Relabel for the next row, every set after the first column it covers
+		for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+			this.roots[columnIndex] = this.isOpen(columnIndex) ? this.find(this.columns + columnIndex) : -1;
+		}
+
+		for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+			final int root = this.roots[columnIndex];
+
+			if (root < 0) {
+				this.labels[columnIndex] = -1;
+				continue;
+			}
+
+			if (this.relabelled[root] < 0) {
+				this.relabelled[root] = columnIndex;
+			}
+
+			this.labels[columnIndex] = this.relabelled[root];
+		}
+
+		this.startLabel = (startRoot >= 0) ? this.relabelled[startRoot] : -1; // -1 when the set did not carry on
+
+		for (int columnIndex = 0; columnIndex < this.columns; columnIndex++) {
+			if (this.roots[columnIndex] >= 0) {
+				this.parents[this.labels[columnIndex]] = this.labels[columnIndex];
+				this.relabelled[this.roots[columnIndex]] = -1;
+			}
+		}
+
+		this.nextRowIndex++;
+
+		if (this.nextRowIndex == this.rows) {
+			this.cornersConnected = this.startLabel >= 0 && this.labels[this.columns - 1] == this.startLabel;
+		}
+	}
+
+	private boolean isOpen(final int columnIndex) {
+		return (this.openBits[columnIndex >>> 6] & (1L << columnIndex)) != 0;
+	}
+
+	private int find(int cell) {
+		while (this.parents[cell] != cell) {
+			this.parents[cell] = this.parents[this.parents[cell]]; // Path halving
+			cell = this.parents[cell];
+		}
+
+		return cell;
+	}
+
+	// The lower root wins, so sets carried from the row before keep their label
+	private void union(final int first, final int second) {
+		final int firstRoot = this.find(first);
+		final int secondRoot = this.find(second);
+
+		if (firstRoot == secondRoot) {
+			this.loops++;
+			return;
+		}
+
+		this.parents[Math.max(firstRoot, secondRoot)] = Math.min(firstRoot, secondRoot);
+		this.joins++;
+	}
+
+	private static final class ValidateTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final int firstMaze;
+		private final int lastMaze; // Exclusive
+		private final MazeValidator[] results;
+		private final IntFunction<MazeValidator> validation;
+
+		ValidateTask(final int firstMaze, final int lastMaze, final MazeValidator[] results,
+				final IntFunction<MazeValidator> validation) {
+			this.firstMaze = firstMaze;
+			this.lastMaze = lastMaze;
+			this.results = results;
+			this.validation = validation;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.lastMaze - this.firstMaze <= VALIDATIONS_PER_TASK) {
+				for (int mazeIndex = this.firstMaze; mazeIndex < this.lastMaze; mazeIndex++) {
+					this.results[mazeIndex] = this.validation.apply(mazeIndex);
+				}
+
+				return;
+			}
+
+			final int middleMaze = (this.firstMaze + this.lastMaze) >>> 1;
+
+			invokeAll(new ValidateTask(this.firstMaze, middleMaze, this.results, this.validation),
+					new ValidateTask(middleMaze, this.lastMaze, this.results, this.validation));
+		}
+	}
+
+	// Arguments: rows columns count [algorithm] [threads] [first seed]
+	public static void main(final String[] args) {
+		if (args.length < 3) {
+			System.out.println("Usage: MazeValidator rows columns count [algorithm] [threads] [first seed]\n"
+					+ "Algorithms: " + String.join(", ", MazeAlgorithm.names()));
+			return;
+		}
+
+		final int rows = Integer.parseInt(args[0]);
+		final int columns = Integer.parseInt(args[1]);
+		final int count = Integer.parseInt(args[2]);
+		final String algorithmName = (args.length > 3) ? args[3] : RecursiveDivisionAlgorithm.NAME;
+		final int threads = (args.length > 4) ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+		final long firstSeed = (args.length > 5) ? Long.parseLong(args[5]) : RandomSource.newSeed();
+
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+
+		try {
+			final long startTime = System.nanoTime();
+			final MazeValidator[] results = validateGenerated(rows, columns, algorithmName, firstSeed, count, pool);
+			final long elapsedNanos = System.nanoTime() - startTime;
+
+			int perfect = 0;
+			int connected = 0;
+
+			for (int mazeIndex = 0; mazeIndex < results.length; mazeIndex++) {
+				perfect += results[mazeIndex].getIsPerfect() ? 1 : 0;
+				connected += results[mazeIndex].getCornersConnected() ? 1 : 0;
+
+				if (!results[mazeIndex].getIsPerfect() || !results[mazeIndex].getCornersConnected()) {
+					System.out.printf("Seed %d: %d regions, %d loops, corners %s\n", firstSeed + mazeIndex,
+							results[mazeIndex].getRegionCount(), results[mazeIndex].getLoopCount(),
+							results[mazeIndex].getCornersConnected() ? "connected" : "not connected");
+				}
+			}
+
+			System.out.printf("%s %d by %d, first seed %d: %d of %d perfect, %d of %d with connected corners, "
+					+ "%.0f mazes/s\n", algorithmName, rows, columns, firstSeed, perfect, count, connected, count,
+					count * 1e9 / elapsedNanos);
+		}
+
+		finally {
+			pool.shutdown();
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+// The moves of a game as one packed long each, in a ring that grows or, when given a limit, drops its oldest moves.
+// A record holds the start cell as a CellGrid index, the player, the direction and the bonus code received.
+// Move numbers and end cells are not stored, they follow from the game, see Game.appendMoveHistory
+public final class MoveHistory {
+	private static final int INITIAL_CAPACITY = 16;
+
+	private static final long CELL_MASK = (1L << 40) - 1; // Bits 0-39, start cell index
+	private static final long PLAYER2_FLAG = 1L << 40;
+	private static final long WASTE_FLAG = 1L << 41;
+	private static final int DIRECTION_SHIFT = 42; // Bits 42-43, Direction ordinal
+	private static final long BONUS_FLAG = 1L << 44;
+	private static final int BONUS_SHIFT = 45; // Bits 45-51, Bonus code
+
+	private static final Cordinate.Direction[] DIRECTIONS = Cordinate.Direction.values();
+
+	private long[] records;
+	private int head; // Slot of the oldest record
+	private int size;
+	private int limit; // 0 keeps every move
+	private long addedCount; // Moves added since the last clear(), the dropped ones included
+
+	public MoveHistory() {
+		this(0);
+	}
+
+	public MoveHistory(final int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("A move history limit must not be negative");
+		}
+
+		this.limit = limit;
+		this.records = new long[(limit == 0) ? INITIAL_CAPACITY : Math.min(limit, INITIAL_CAPACITY)];
+	}
+
+	public MoveHistory(final MoveHistory original) {
+		this.limit = original.limit;
+		this.records = new long[Math.max(original.size, INITIAL_CAPACITY)];
+
+		for (int index = 0; index < original.size; index++) {
+			this.records[index] = original.get(index);
+		}
+
+		this.size = original.size;
+		this.addedCount = original.addedCount;
+	}
+
+	public static long encodeMove(final Game.PlayerIdentifier player, final long startCell,
+			final Cordinate.Direction direction, final int bonusCode) {
+		return (startCell & CELL_MASK)
+				| ((player == Game.PlayerIdentifier.P2) ? PLAYER2_FLAG : 0)
+				| ((long) direction.ordinal() << DIRECTION_SHIFT)
+				| ((bonusCode < 0) ? 0 : (BONUS_FLAG | ((long) bonusCode << BONUS_SHIFT)));
+	}
+
+	public static long encodeWaste(final Game.PlayerIdentifier player) {
+		return WASTE_FLAG | ((player == Game.PlayerIdentifier.P2) ? PLAYER2_FLAG : 0);
+	}
+
+	public static Game.PlayerIdentifier player(final long record) {
+		return ((record & PLAYER2_FLAG) != 0) ? Game.PlayerIdentifier.P2 : Game.PlayerIdentifier.P1;
+	}
+
+	public static boolean isWaste(final long record) {
+		return (record & WASTE_FLAG) != 0;
+	}
+
+	public static long startCell(final long record) {
+		return record & CELL_MASK;
+	}
+
+	public static Cordinate.Direction direction(final long record) {
+		return DIRECTIONS[(int) (record >>> DIRECTION_SHIFT) & 3];
+	}
+
+	// -1 when no bonus was received
+	public static int bonusCode(final long record) {
+		return ((record & BONUS_FLAG) != 0) ? (int) (record >>> BONUS_SHIFT) & 0x7F : -1;
+	}
+
+	public int size() {
+		return this.size;
+	}
+
+	// Whether add() has to drop the oldest move to make room
+	public boolean isFull() {
+		return this.limit != 0 && this.size == this.limit;
+	}
+
+	// Moves added and not removed since the last clear(), which keeps counting once the limit drops the oldest
+	public long getAddedCount() {
+		return this.addedCount;
+	}
+
+	public int getLimit() {
+		return this.limit;
+	}
+
+	// Drops the oldest moves if more than the new limit are kept, 0 keeps every move from now on
+	public void setLimit(final int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("A move history limit must not be negative");
+		}
+
+		this.limit = limit;
+
+		if (limit != 0 && this.size > limit) {
+			this.head = this.slot(this.size - limit);
+			this.size = limit;
+		}
+	}
+
+	// 0 is the oldest kept move
+	public long get(final int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("No move " + index + " in a history of " + this.size);
+		}
+
+		return this.records[this.slot(index)];
+	}
+
+	public long getLast() {
+		return this.get(this.size - 1);
+	}
+
+	public void add(final long record) {
+		this.addedCount++;
+
+		if (this.isFull()) {
+			this.records[this.slot(this.size)] = record; // Takes the place of the oldest once the limit was reached
+			this.head = this.slot(1);
+			return;
+		}
+
+		if (this.size == this.records.length) {
+			this.grow();
+		}
+
+		this.records[this.slot(this.size)] = record;
+		this.size++;
+	}
+
+	// Puts back a move older than every kept one, as taken back moves bring back the moves they made room for
+	public void addFirst(final long record) {
+		if (this.isFull()) {
+			throw new IllegalStateException("A full move history has no room for an older move");
+		}
+
+		if (this.size == this.records.length) {
+			this.grow();
+		}
+
+		this.head = (this.head == 0) ? this.records.length - 1 : this.head - 1;
+		this.records[this.head] = record;
+		this.size++;
+	}
+
+	public long removeLast() {
+		final long record = this.getLast();
+
+		this.size--;
+		this.addedCount--;
+
+		return record;
+	}
+
+	public void clear() {
+		this.head = 0;
+		this.size = 0;
+		this.addedCount = 0;
+	}
+
+	private int slot(final int index) {
+		final int slot = this.head + index;
+
+		return (slot < this.records.length) ? slot : slot - this.records.length;
+	}
+
+	private void grow() {
+		final int newCapacity = (this.limit == 0)
+				? this.records.length * 2
+				: (int) Math.min((long) this.records.length * 2, this.limit);
+		final long[] grown = new long[newCapacity];
+
+		for (int index = 0; index < this.size; index++) {
+			grown[index] = this.records[this.slot(index)];
+		}
+
+		this.records = grown;
+		this.head = 0;
+	}
+}
\ No newline at end of file
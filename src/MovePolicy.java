@@ -0,0 +1,27 @@
+// Picks moves for one player of one game, see GameSimulator. A new policy is made for every game it plays, so it
+// can keep whatever it learns about that game's maze
+public interface MovePolicy {
+	String getName();
+
+	// A Game.applyMove bit for the player whose turn it is, 0 when that player has no move
+	int chooseMove(Game game, RandomSource random);
+
+	static String[] names() {
+		return new String[] {
+				RandomMovePolicy.NAME,
+				GreedyMovePolicy.NAME
+		};
+	}
+
+	static MovePolicy byName(final String name) {
+		switch (name) {
+			case RandomMovePolicy.NAME:
+				return new RandomMovePolicy();
+			case GreedyMovePolicy.NAME:
+				return new GreedyMovePolicy();
+
+			default:
+				throw new IllegalArgumentException("Unknown move policy: " + name);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Words live in direct buffers, so the heap and GC pauses stay the same size whatever the grid size.
+// The memory is released when the storage becomes unreachable
+public final class OffHeapGridStorage implements GridStorage {
+	private static final VarHandle WORDS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+	private static final int CHUNK_SHIFT = 27; // 2^27 words = 1 GB per direct buffer, they are capped at 2 GB
+	private static final long CHUNK_MASK = (1L << CHUNK_SHIFT) - 1;
+
+	private final long wordCount;
+	private final ByteBuffer[] chunks;
+
+	public OffHeapGridStorage(final long wordCount) {
+		this.wordCount = wordCount;
+		this.chunks = new ByteBuffer[(int) ((wordCount + CHUNK_MASK) >>> CHUNK_SHIFT)];
+
+		for (int chunk = 0; chunk < this.chunks.length; chunk++) {
+			final long chunkWords = Math.min(1L << CHUNK_SHIFT, wordCount - ((long) chunk << CHUNK_SHIFT));
+
+			// allocateDirect zeroes the memory, matching a new long[]
+			this.chunks[chunk] = ByteBuffer.allocateDirect((int) (chunkWords * Long.BYTES)).order(ByteOrder.nativeOrder());
+		}
+	}
+
+	public Backend getBackend() {
+		return Backend.OffHeap;
+	}
+
+	public long getWordCount() {
+		return this.wordCount;
+	}
+
+	public long getWord(final long wordIndex) {
+		return this.chunks[(int) (wordIndex >>> CHUNK_SHIFT)].getLong((int) (wordIndex & CHUNK_MASK) * Long.BYTES);
+	}
+
+	public void setWord(final long wordIndex, final long word) {
+		this.chunks[(int) (wordIndex >>> CHUNK_SHIFT)].putLong((int) (wordIndex & CHUNK_MASK) * Long.BYTES, word);
+	}
+
+	public void orWordConcurrent(final long wordIndex, final long mask) {
+		WORDS.getAndBitwiseOr(this.chunks[(int) (wordIndex >>> CHUNK_SHIFT)], (int) (wordIndex & CHUNK_MASK) * Long.BYTES,
+				mask);
+	}
+
+	public void andWordConcurrent(final long wordIndex, final long mask) {
+		WORDS.getAndBitwiseAnd(this.chunks[(int) (wordIndex >>> CHUNK_SHIFT)], (int) (wordIndex & CHUNK_MASK) * Long.BYTES,
+				mask);
+	}
+
+	public void fill(final long word) {
+		for (long wordIndex = 0; wordIndex < this.wordCount; wordIndex++) {
+			this.setWord(wordIndex, word);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+// Allocation-free cordinates: x and y packed into one long, or a flat row-major int index into a grid.
+// Mirrors the Cordinate methods used on hot paths
+public final class PackedCordinate {
+	private PackedCordinate() {
+	}
+
+	public static long pack(final int x, final int y) {
+		return ((long) y << 32) | (x & 0xFFFFFFFFL);
+	}
+
+	public static long pack(final Cordinate cordinate) {
+		return pack(cordinate.getX(), cordinate.getY());
+	}
+
+	public static int x(final long packed) {
+		return (int) packed;
+	}
+
+	public static int y(final long packed) {
+		return (int) (packed >> 32);
+	}
+
+	public static Cordinate toCordinate(final long packed) {
+		return new Cordinate(x(packed), y(packed));
+	}
+
+	public static int stepX(final Cordinate.Direction direction) {
+		switch (direction) {
+			case East:
+				return 1;
+			case West:
+				return -1;
+
+			default:
+				return 0;
+		}
+	}
+
+	public static int stepY(final Cordinate.Direction direction) {
+		switch (direction) {
+			case North:
+				return -1;
+			case South:
+				return 1;
+
+			default:
+				return 0;
+		}
+	}
+
+	public static long step(final long packed, final Cordinate.Direction direction) {
+		return step(packed, direction, 1);
+	}
+
+	public static long step(final long packed, final Cordinate.Direction direction, final int distance) {
+		return pack(x(packed) + stepX(direction) * distance, y(packed) + stepY(direction) * distance);
+	}
+
+	public static boolean inBounds(final long packed, final int rows, final int columns) {
+		final int x = x(packed);
+		final int y = y(packed);
+
+		return 0 <= x && x < columns &&
+				0 <= y && y < rows;
+	}
+
+	// Same as Cordinate.distanceFrom, -1 if they are not on the same row or column
+	public static int distance(final long from, final long to) {
+		if (x(from) == x(to)) {
+			return Math.abs(y(from) - y(to));
+		}
+
+		if (y(from) == y(to)) {
+			return Math.abs(x(from) - x(to));
+		}
+
+		return -1;
+	}
+
+	// Same as Cordinate.directionTowards. Walk a line with
+	// for (int step = 0; step <= distance(from, to); step++) { step(from, direction, step) }
+	public static Cordinate.Direction directionTowards(final long from, final long to) {
+		if (x(from) == x(to) && y(from) != y(to)) {
+			return (y(from) > y(to)) ? Cordinate.Direction.North : Cordinate.Direction.South;
+		}
+
+		if (y(from) == y(to) && x(from) != x(to)) {
+			return (x(from) < x(to)) ? Cordinate.Direction.East : Cordinate.Direction.West;
+		}
+
+		return Cordinate.Direction.None;
+	}
+
+	public static int index(final int x, final int y, final int columns) {
+		return y * columns + x;
+	}
+
+	public static int indexX(final int index, final int columns) {
+		return index % columns;
+	}
+
+	public static int indexY(final int index, final int columns) {
+		return index / columns;
+	}
+
+	// The caller checks that the step stays on the grid
+	public static int stepIndex(final int index, final Cordinate.Direction direction, final int columns) {
+		return index + stepX(direction) + stepY(direction) * columns;
+	}
+
+	public static String toString(final long packed) {
+		return "(" + x(packed) + ", " + y(packed) + ")";
+	}
+}
\ No newline at end of file
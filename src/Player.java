@@ -1,14 +1,14 @@
 public class Player extends Entity {
 	private int points = 0;
 	private Game.PlayerIdentifier player;
-	private Cordinate position;
+	private long position; // Packed, see PackedCordinate
 
 	public Player(final Game.PlayerIdentifier assignedPlayer, final Cordinate position) {
 		super();
 
 		this.player = assignedPlayer;
 		this.points = 1;
-		this.position = position;
+		this.position = PackedCordinate.pack(position);
 	}
 
 	public Game.PlayerIdentifier getPlayerIdentifier() {
@@ -23,11 +23,20 @@ public class Player extends Entity {
 		return this.points;
 	}
 
+	// A new Cordinate on every call, see getPackedPosition()
 	public Cordinate getPosition() {
-		return this.position;
+		return PackedCordinate.toCordinate(this.position);
 	}
 
 	public void setPosition(final Cordinate newPosition) {
+		this.position = PackedCordinate.pack(newPosition);
+	}
+
+	public long getPackedPosition() {
+		return this.position;
+	}
+
+	public void setPackedPosition(final long newPosition) {
 		this.position = newPosition;
 	}
 
@@ -0,0 +1,18 @@
+// Any viable move, wasting a point included, with equal chances
+public final class RandomMovePolicy implements MovePolicy {
+	public static final String NAME = "random";
+
+	public String getName() {
+		return NAME;
+	}
+
+	public int chooseMove(final Game game, final RandomSource random) {
+		int moveMask = game.viableMoveMask();
+
+		for (int skipped = random.nextInt(Integer.bitCount(moveMask)); skipped > 0; skipped--) {
+			moveMask &= moveMask - 1; // Drops the lowest move
+		}
+
+		return Integer.lowestOneBit(moveMask);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+public interface RandomSource {
+	// Shared by callers that do not care about reproducibility, never contends between threads
+	RandomSource THREAD_LOCAL = new RandomSource() {
+		public double nextDouble() {
+			return ThreadLocalRandom.current().nextDouble();
+		}
+
+		public long nextLong() {
+			return ThreadLocalRandom.current().nextLong();
+		}
+
+		public RandomSource split() {
+			return new SplittableRandomSource(ThreadLocalRandom.current().nextLong());
+		}
+	};
+
+	double nextDouble(); // Uniform in [0, 1)
+
+	long nextLong();
+
+	RandomSource split(); // Independent stream for another thread or task
+
+	default int nextInt(final int bound) { // Uniform in [0, bound)
+		return (int) (this.nextDouble() * bound);
+	}
+
+	static RandomSource seeded(final long seed) {
+		return new SplittableRandomSource(seed);
+	}
+
+	static long newSeed() {
+		return ThreadLocalRandom.current().nextLong();
+	}
+}
\ No newline at end of file
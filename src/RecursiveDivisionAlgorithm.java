@@ -0,0 +1,11 @@
+public final class RecursiveDivisionAlgorithm implements MazeAlgorithm {
+	public static final String NAME = "division";
+
+	public String getName() {
+		return NAME;
+	}
+
+	public void generate(final MazeGenerator maze) {
+		maze.generateIterative();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+import java.util.SplittableRandom;
+
+public final class SplittableRandomSource implements RandomSource {
+	private final SplittableRandom random;
+
+	public SplittableRandomSource(final long seed) {
+		this.random = new SplittableRandom(seed);
+	}
+
+	private SplittableRandomSource(final SplittableRandom random) {
+		this.random = random;
+	}
+
+	public double nextDouble() {
+		return this.random.nextDouble();
+	}
+
+	public long nextLong() {
+		return this.random.nextLong();
+	}
+
+	public RandomSource split() {
+		return new SplittableRandomSource(this.random.split());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Eller's algorithm: produces the maze one row at a time and only keeps state for the current row.
+// Cells sit on even cordinates, odd cordinates between two cells are either a passage or a Block.
+public final class StreamingMazeGenerator implements Iterable<long[]> {
+	public interface RowConsumer {
+		// Bit x of blockBits is set when (x, rowIndex) is a Block. The array is reused for the next row
+		void acceptRow(int rowIndex, long[] blockBits);
+	}
+
+	private final int rows;
+	private final int columns;
+	private final long seed;
+
+	public StreamingMazeGenerator(final int rows, final int columns) {
+		this(rows, columns, RandomSource.newSeed());
+	}
+
+	public StreamingMazeGenerator(final int rows, final int columns, final long seed) {
+		if (rows < 1 || columns < 1) {
+			throw new IllegalArgumentException("A maze needs at least one row and one column");
+		}
+
+		this.rows = rows;
+		this.columns = columns;
+		this.seed = seed;
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public long getSeed() {
+		return this.seed;
+	}
+
+	// Every pass starts from the seed again, so repeated passes produce the same maze
+	public void generate(final RowConsumer consumer) {
+		final RowCursor cursor = new RowCursor();
+
+		while (cursor.hasNextRow()) {
+			final int rowIndex = cursor.getNextRowIndex();
+
+			consumer.acceptRow(rowIndex, cursor.nextRow());
+		}
+	}
+
+	// Each row handed out by the iterator is a copy, use generate(RowConsumer) to avoid the allocation
+	@Override
+	public Iterator<long[]> iterator() {
+		final RowCursor cursor = new RowCursor();
+
+		return new Iterator<long[]>() {
+			public boolean hasNext() {
+				return cursor.hasNextRow();
+			}
+
+			public long[] next() {
+				if (!cursor.hasNextRow()) {
+					throw new NoSuchElementException();
+				}
+
+				return cursor.nextRow().clone();
+			}
+		};
+	}
+
+	public static int wordsPerRow(final int columns) {
+		return (columns + 63) >>> 6;
+	}
+
+	public static boolean isBlock(final long[] blockBits, final int x) {
+		return (blockBits[x >>> 6] & (1L << x)) != 0;
+	}
+
+	private final class RowCursor {
+		private final RandomSource random = RandomSource.seeded(seed);
+		private final int cellColumns = (columns + 1) / 2;
+		private final int cellRows = (rows + 1) / 2;
+		private final long[] blockBits = new long[wordsPerRow(columns)];
+
+		// Set labels live in [0, 2 * cellColumns): carried sets are relabelled below cellColumns,
+		// fresh cells get cellColumns + column so the two never collide
+		private final int[] cellSets = new int[this.cellColumns];
+		private final int[] parents = new int[this.cellColumns * 2];
+		private final int[] setSizes = new int[this.cellColumns * 2];
+		private final int[] relabels = new int[this.cellColumns * 2];
+		private final boolean[] setOpenedDown = new boolean[this.cellColumns * 2];
+		private final boolean[] openDown = new boolean[this.cellColumns];
+
+		private int nextRowIndex = 0;
+		private int cellRowIndex = 0;
+
+		private long coinBits;
+		private int coinBitsLeft = 0;
+
+		RowCursor() {
+			for (int cellColumn = 0; cellColumn < this.cellColumns; cellColumn++) {
+				this.cellSets[cellColumn] = cellColumn;
+			}
+		}
+
+		boolean hasNextRow() {
+			return this.nextRowIndex < rows;
+		}
+
+		int getNextRowIndex() {
+			return this.nextRowIndex;
+		}
+
+		long[] nextRow() {
+			if (this.nextRowIndex % 2 == 0) {
+				this.writeCellRow();
+				this.cellRowIndex++;
+			}
+
+			else {
+				this.writePassageRow();
+			}
+
+			this.nextRowIndex++;
+
+			return this.blockBits;
+		}
+
+		private void writeCellRow() {
+			final boolean isLastRow = this.cellRowIndex == this.cellRows - 1;
+
+			for (int label = 0; label < this.parents.length; label++) {
+				this.parents[label] = label;
+			}
+
+			Arrays.fill(this.blockBits, 0L);
+
+			// Join neighbouring cells that are in different sets, the last row joins all of them
+			for (int cellColumn = 0; 2 * cellColumn + 1 < columns; cellColumn++) {
+				boolean joined = false;
+
+				if (cellColumn + 1 < this.cellColumns) {
+					final int leftSet = this.find(this.cellSets[cellColumn]);
+					final int rightSet = this.find(this.cellSets[cellColumn + 1]);
+
+					if (leftSet != rightSet && (isLastRow || this.coinFlip())) {
+						this.parents[leftSet] = rightSet;
+						joined = true;
+					}
+				}
+
+				if (!joined) {
+					this.setBlock(2 * cellColumn + 1);
+				}
+			}
+
+			if (isLastRow) {
+				Arrays.fill(this.openDown, false);
+				return;
+			}
+
+			// Every set must carry on into the next row through at least one opening
+			for (int cellColumn = 0; cellColumn < this.cellColumns; cellColumn++) {
+				final int set = this.find(this.cellSets[cellColumn]);
+
+				this.setSizes[set] = 0;
+				this.setOpenedDown[set] = false;
+			}
+
+			for (int cellColumn = 0; cellColumn < this.cellColumns; cellColumn++) {
+				this.setSizes[this.find(this.cellSets[cellColumn])]++;
+			}
+
+			for (int cellColumn = 0; cellColumn < this.cellColumns; cellColumn++) {
+				final int set = this.find(this.cellSets[cellColumn]);
+				final boolean isLastChance = this.setSizes[set] == 1 && !this.setOpenedDown[set];
+
+				this.openDown[cellColumn] = isLastChance || this.coinFlip();
+				this.setOpenedDown[set] |= this.openDown[cellColumn];
+				this.setSizes[set]--;
+			}
+
+			// Relabel for the next row
+			Arrays.fill(this.relabels, -1);
+
+			for (int cellColumn = 0; cellColumn < this.cellColumns; cellColumn++) {
+				if (!this.openDown[cellColumn]) {
+					this.cellSets[cellColumn] = this.cellColumns + cellColumn;
+					continue;
+				}
+
+				final int set = this.find(this.cellSets[cellColumn]);
+
+				if (this.relabels[set] == -1) {
+					this.relabels[set] = cellColumn;
+				}
+
+				this.cellSets[cellColumn] = this.relabels[set];
+			}
+		}
+
+		private void writePassageRow() {
+			Arrays.fill(this.blockBits, -1L);
+
+			if (columns % 64 != 0) {
+				this.blockBits[this.blockBits.length - 1] = -1L >>> (64 - columns % 64);
+			}
+
+			for (int cellColumn = 0; cellColumn < this.cellColumns; cellColumn++) {
+				if (this.openDown[cellColumn]) {
+					final int x = 2 * cellColumn;
+
+					this.blockBits[x >>> 6] &= ~(1L << x);
+				}
+			}
+		}
+
+		// One random long covers 64 decisions
+		private boolean coinFlip() {
+			if (this.coinBitsLeft == 0) {
+				this.coinBits = this.random.nextLong();
+				this.coinBitsLeft = 64;
+			}
+
+			final boolean flip = (this.coinBits & 1L) != 0;
+
+			this.coinBits >>>= 1;
+			this.coinBitsLeft--;
+
+			return flip;
+		}
+
+		private void setBlock(final int x) {
+			this.blockBits[x >>> 6] |= 1L << x;
+		}
+
+		private int find(int label) {
+			while (this.parents[label] != label) {
+				this.parents[label] = this.parents[this.parents[label]];
+				label = this.parents[label];
+			}
+
+			return label;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,161 @@
+import java.io.PrintStream;
+
+// Draws Game frames in the same layout as Game.toString(), but after the first frame only rewrites what changed:
+// the dirty cells, the old and new highlighted cells, the score and turn lines and the move history.
+// With a viewport only the cells inside it are drawn, see setViewport and followTurn
+public final class TerminalRenderer {
+	private static final String CLEAR_LINE = "\u001B[2K";
+	private static final String CLEAR_BELOW = "\u001B[J";
+
+	private static final char BORDER_CHAR = '*';
+	private static final int BORDER_WIDTH = 1;
+	private static final int HISTORY_LENGTH = 4;
+
+	// Rows and columns of the frame on screen, 1-based as the terminal counts them
+	private static final int SCORE_ROW = 1;
+	private static final int TURN_ROW = 2;
+	private static final int BOARD_ROW = TURN_ROW + 1 + BORDER_WIDTH;
+	private static final int BOARD_COLUMN = 1 + BORDER_WIDTH;
+
+	private final Game game;
+	private final PrintStream out;
+	private final StringBuilder output = new StringBuilder();
+
+	private boolean needsFullFrame;
+	private Viewport viewport; // Null draws the whole board
+	private boolean followsTurn;
+	private long drawnHighlightStart;
+	private long drawnHighlightEnd;
+
+	public TerminalRenderer(final Game game) {
+		this(game, System.out);
+	}
+
+	public TerminalRenderer(final Game game, final PrintStream out) {
+		this.game = game;
+		this.out = out;
+		this.needsFullFrame = true;
+	}
+
+	// The next render() draws the whole frame again, for when something else has drawn over the screen
+	public void invalidate() {
+		this.needsFullFrame = true;
+	}
+
+	// Draws only this window of the board, null draws the whole board again
+	public void setViewport(final Viewport viewport) {
+		this.viewport = viewport;
+		this.followsTurn = false;
+		this.needsFullFrame = true;
+	}
+
+	// Draws a window of at most columns * rows cells that moves along with the player whose turn it is
+	public void followTurn(final int columns, final int rows) {
+		this.viewport = this.game.viewportAroundTurn(columns, rows);
+		this.followsTurn = true;
+		this.needsFullFrame = true;
+	}
+
+	public Viewport getViewport() {
+		return this.viewport;
+	}
+
+	// Leaves the cursor on the line below the frame, like System.out.println(game) would
+	public void render() {
+		this.output.setLength(0);
+
+		if (this.followsTurn) {
+			final Cordinate position = this.game.getPlayerPosition(this.game.getTurn());
+			final Viewport followingViewport = this.viewport.following(position.getX(), position.getY(),
+					this.game.getGridColumns(), this.game.getGridRows());
+
+			if (followingViewport != this.viewport) {
+				this.viewport = followingViewport;
+				this.needsFullFrame = true;
+			}
+		}
+
+		if (this.needsFullFrame || this.game.getAllCellsDirty()) {
+			this.appendFullFrame();
+		}
+
+		else {
+			this.appendChanges();
+		}
+
+		this.game.clearDirtyCells();
+		this.drawnHighlightStart = this.game.getHighlightStart();
+		this.drawnHighlightEnd = this.game.getHighlightEnd();
+		this.needsFullFrame = false;
+
+		this.out.print(this.output);
+		this.out.flush();
+	}
+
+	private void appendFullFrame() {
+		this.output.append(GameLoop.CLS);
+		this.output.append(this.game.renderScores()).append('\n');
+		this.output.append(this.game.renderTurn()).append('\n');
+		this.game.appendBoard(this.output, BORDER_CHAR, BORDER_WIDTH, this.drawnViewport());
+		this.game.appendMoveHistory(this.output, HISTORY_LENGTH);
+		this.output.append('\n');
+	}
+
+	private void appendChanges() {
+		final CellGrid cells = this.game.getCells();
+
+		for (int dirtyIndex = 0; dirtyIndex < this.game.getDirtyCellCount(); dirtyIndex++) {
+			final long cellIndex = this.game.getDirtyCell(dirtyIndex);
+
+			this.appendCell((int) (cellIndex % cells.getColumns()), (int) (cellIndex / cells.getColumns()));
+		}
+
+		// Highlights move without the cells under them changing, e.g. after a waste move
+		this.appendCell(this.drawnHighlightStart);
+		this.appendCell(this.drawnHighlightEnd);
+		this.appendCell(this.game.getHighlightStart());
+		this.appendCell(this.game.getHighlightEnd());
+
+		this.appendCursorTo(SCORE_ROW, 1).append(CLEAR_LINE).append(this.game.renderScores());
+		this.appendCursorTo(TURN_ROW, 1).append(CLEAR_LINE).append(this.game.renderTurn());
+
+		// Below the bottom border, the history and anything printed after it
+		this.appendCursorTo(BOARD_ROW + Entity.DIMENSIONS * this.drawnViewport().getRows() + BORDER_WIDTH, 1)
+				.append(CLEAR_BELOW);
+		this.game.appendMoveHistory(this.output, HISTORY_LENGTH);
+		this.output.append('\n');
+	}
+
+	private void appendCell(final long packedCordinate) {
+		if (packedCordinate != -1) {
+			this.appendCell(PackedCordinate.x(packedCordinate), PackedCordinate.y(packedCordinate));
+		}
+	}
+
+	private void appendCell(final int x, final int y) {
+		final Viewport drawnViewport = this.drawnViewport();
+
+		if (!drawnViewport.contains(x, y)) {
+			return;
+		}
+
+		final long cordinate = PackedCordinate.pack(x, y);
+		final boolean isHighlighted = cordinate == this.game.getHighlightStart()
+				|| cordinate == this.game.getHighlightEnd();
+		final Glyph glyph = this.game.glyphAt(x, y);
+
+		for (int rowOfEntity = 0; rowOfEntity < Entity.DIMENSIONS; rowOfEntity++) {
+			this.appendCursorTo(BOARD_ROW + Entity.DIMENSIONS * (y - drawnViewport.getY()) + rowOfEntity,
+					BOARD_COLUMN + Entity.DIMENSIONS * (x - drawnViewport.getX()));
+			glyph.appendLine(this.output, rowOfEntity, isHighlighted);
+		}
+	}
+
+	private Viewport drawnViewport() {
+		return (this.viewport != null) ? this.viewport : this.game.wholeBoard();
+	}
+
+	private StringBuilder appendCursorTo(final int row, final int column) {
+		return this.output.append("\u001B[").append(row).append(';').append(column).append('H');
+	}
+}
\ No newline at end of file
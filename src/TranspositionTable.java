@@ -0,0 +1,93 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Fixed size table of search results keyed by Game.getZobristHash(). Any number of threads can read and write it
+ * without locks: each slot stores the key XORed with the data next to the data, so a slot torn by two racing
+ * writers no longer matches its key and reads as a miss instead of as wrong data
+ */
+public final class TranspositionTable {
+	public static final int BOUND_EXACT = 1;
+	public static final int BOUND_LOWER = 2; // The value is at least this
+	public static final int BOUND_UPPER = 3; // The value is at most this
+
+	public static final long MISS = 0; // Never a stored entry, stored entries have a bound
+
+	private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+	// Data layout: value in bits 0-31, depth in bits 32-39, bound in bits 40-41, best move in bits 42-47
+	private static final int DEPTH_SHIFT = 32;
+	private static final int BOUND_SHIFT = 40;
+	private static final int MOVE_SHIFT = 42;
+	private static final int MAX_DEPTH = 0xFF;
+
+	private final long[] slots; // Pairs of key ^ data and data
+	private final int indexMask;
+
+	// Rounded down to a power of two entries of 16 bytes each
+	public TranspositionTable(final int sizeInBytes) {
+		final int entries = Integer.highestOneBit(Math.max(sizeInBytes / 16, 1));
+
+		this.slots = new long[entries * 2];
+		this.indexMask = entries - 1;
+	}
+
+	public int getEntryCount() {
+		return this.indexMask + 1;
+	}
+
+	// The stored data for the key, or MISS
+	public long probe(final long key) {
+		final int slot = this.slot(key);
+		final long checkedKey = (long) SLOTS.getOpaque(this.slots, slot);
+		final long data = (long) SLOTS.getOpaque(this.slots, slot + 1);
+
+		return ((checkedKey ^ data) == key && data != MISS) ? data : MISS;
+	}
+
+	// Replaces what is stored unless it is a deeper result for the same key
+	public void store(final long key, final int depth, final int value, final int bound, final int bestMove) {
+		final int slot = this.slot(key);
+		final long storedData = (long) SLOTS.getOpaque(this.slots, slot + 1);
+		final long storedKey = (long) SLOTS.getOpaque(this.slots, slot) ^ storedData;
+
+		if (storedKey == key && storedData != MISS && depth(storedData) > depth) {
+			return;
+		}
+
+		final long data = (value & 0xFFFFFFFFL)
+				| ((long) Math.min(Math.max(depth, 0), MAX_DEPTH) << DEPTH_SHIFT)
+				| ((long) bound << BOUND_SHIFT)
+				| ((long) bestMove << MOVE_SHIFT);
+
+		SLOTS.setOpaque(this.slots, slot, key ^ data);
+		SLOTS.setOpaque(this.slots, slot + 1, data);
+	}
+
+	public void clear() {
+		for (int slot = 0; slot < this.slots.length; slot++) {
+			SLOTS.setOpaque(this.slots, slot, 0L);
+		}
+	}
+
+	public static int value(final long data) {
+		return (int) data;
+	}
+
+	public static int depth(final long data) {
+		return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+	}
+
+	public static int bound(final long data) {
+		return (int) (data >>> BOUND_SHIFT) & 3;
+	}
+
+	// A Game.applyMove bit, 0 when none was stored
+	public static int bestMove(final long data) {
+		return (int) (data >>> MOVE_SHIFT) & 0x3F;
+	}
+
+	private int slot(final long key) {
+		return (int) (key & this.indexMask) << 1;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+// A window of whole cells onto a board, given by its top left cell and its size in cells
+public final class Viewport {
+	private final int x;
+	private final int y;
+	private final int columns;
+	private final int rows;
+
+	public Viewport(final int x, final int y, final int columns, final int rows) {
+		if (x < 0 || y < 0 || columns < 1 || rows < 1) {
+			throw new IllegalArgumentException("A viewport needs a non negative position and a size of at least 1");
+		}
+
+		this.x = x;
+		this.y = y;
+		this.columns = columns;
+		this.rows = rows;
+	}
+
+	// A window of at most columns * rows cells around (centerX, centerY), moved inwards where it would leave the board
+	public static Viewport centeredOn(final int centerX, final int centerY, final int columns, final int rows,
+			final int gridColumns, final int gridRows) {
+		final int clippedColumns = Math.min(columns, gridColumns);
+		final int clippedRows = Math.min(rows, gridRows);
+
+		return new Viewport(
+				clamp(centerX - clippedColumns / 2, gridColumns - clippedColumns),
+				clamp(centerY - clippedRows / 2, gridRows - clippedRows),
+				clippedColumns,
+				clippedRows);
+	}
+
+	private static int clamp(final int position, final int maxPosition) {
+		return Math.max(0, Math.min(position, maxPosition));
+	}
+
+	public static Viewport wholeBoard(final int gridColumns, final int gridRows) {
+		return new Viewport(0, 0, gridColumns, gridRows);
+	}
+
+	// This viewport while (targetX, targetY) stays clear of its edges, otherwise one centered on the target.
+	// Keeps the window still for most moves instead of scrolling on every one
+	public Viewport following(final int targetX, final int targetY, final int gridColumns, final int gridRows) {
+		final int marginX = this.columns / 4;
+		final int marginY = this.rows / 4;
+
+		final boolean isClearHorizontally = (targetX - this.x >= marginX || this.x == 0)
+				&& (this.getRight() - targetX >= marginX || this.getRight() == gridColumns);
+		final boolean isClearVertically = (targetY - this.y >= marginY || this.y == 0)
+				&& (this.getBottom() - targetY >= marginY || this.getBottom() == gridRows);
+
+		if (this.contains(targetX, targetY) && isClearHorizontally && isClearVertically) {
+			return this;
+		}
+
+		return centeredOn(targetX, targetY, this.columns, this.rows, gridColumns, gridRows);
+	}
+
+	public int getX() {
+		return this.x;
+	}
+
+	public int getY() {
+		return this.y;
+	}
+
+	public int getColumns() {
+		return this.columns;
+	}
+
+	public int getRows() {
+		return this.rows;
+	}
+
+	// Exclusive
+	public int getRight() {
+		return this.x + this.columns;
+	}
+
+	// Exclusive
+	public int getBottom() {
+		return this.y + this.rows;
+	}
+
+	public boolean contains(final int cellX, final int cellY) {
+		return this.x <= cellX && cellX < this.getRight() &&
+				this.y <= cellY && cellY < this.getBottom();
+	}
+
+	public boolean fitsIn(final int gridColumns, final int gridRows) {
+		return this.getRight() <= gridColumns && this.getBottom() <= gridRows;
+	}
+
+	@Override
+	public boolean equals(final Object compared) {
+		if (!(compared instanceof Viewport)) {
+			return false;
+		}
+
+		final Viewport comparedViewport = (Viewport) compared;
+
+		return this.x == comparedViewport.x && this.y == comparedViewport.y &&
+				this.columns == comparedViewport.columns && this.rows == comparedViewport.rows;
+	}
+
+	@Override
+	public int hashCode() {
+		return ((this.x * 31 + this.y) * 31 + this.columns) * 31 + this.rows;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%dx%d at (%d, %d)", this.columns, this.rows, this.x, this.y);
+	}
+}
\ No newline at end of file
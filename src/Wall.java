@@ -1,4 +1,6 @@
 public class Wall extends Entity {
+	public static final Wall INSTANCE = new Wall(); // Walls hold no state, every wall cell can share this one
+
 	public Wall() {
 		super();
 	}
@@ -0,0 +1,51 @@
+// Wilson's loop-erased random walks. Unbiased over all perfect mazes, but slower than the others
+public final class WilsonAlgorithm extends CarvingMazeAlgorithm {
+	public static final String NAME = "wilson";
+
+	public String getName() {
+		return NAME;
+	}
+
+	protected void carve(final RandomSource random) {
+		final int cells = this.cellCount();
+		final long[] inMaze = new long[(cells + 63) >>> 6];
+		final byte[] walkDirections = new byte[cells]; // Last direction the walk left each cell in
+
+		final int firstCell = random.nextInt(cells);
+
+		inMaze[firstCell >>> 6] |= 1L << firstCell;
+		this.openCell(firstCell);
+
+		for (int start = 0; start < cells; start++) {
+			if ((inMaze[start >>> 6] & (1L << start)) != 0) {
+				continue;
+			}
+
+			// Walk until the maze is hit, later visits overwrite the direction so loops are erased
+			int cell = start;
+
+			while ((inMaze[cell >>> 6] & (1L << cell)) == 0) {
+				int direction;
+				int next;
+
+				do {
+					direction = random.nextInt(4);
+					next = this.neighbour(cell, direction);
+				} while (next == -1);
+
+				walkDirections[cell] = (byte) direction;
+				cell = next;
+			}
+
+			cell = start;
+
+			while ((inMaze[cell >>> 6] & (1L << cell)) == 0) {
+				final int next = this.neighbour(cell, walkDirections[cell]);
+
+				inMaze[cell >>> 6] |= 1L << cell;
+				this.openPassage(cell, next);
+				cell = next;
+			}
+		}
+	}
+}
\ No newline at end of file
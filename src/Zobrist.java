@@ -0,0 +1,44 @@
+// Zobrist keys for Game positions. Instead of tables of random numbers, which would need an entry for every cell
+// of the board, each key is a SplitMix64 hash of the feature it stands for
+public final class Zobrist {
+	private static final int KIND_SHIFT = 56;
+	private static final long PLAYER1_AT = 1L << KIND_SHIFT;
+	private static final long PLAYER2_AT = 2L << KIND_SHIFT;
+	private static final long PLAYER1_POINTS = 3L << KIND_SHIFT;
+	private static final long PLAYER2_POINTS = 4L << KIND_SHIFT;
+	private static final long BONUS_AT = 5L << KIND_SHIFT;
+
+	public static final long PLAYER2_TURN = mix(6L << KIND_SHIFT);
+	public static final long PLAYER1_FINISHED = mix(7L << KIND_SHIFT);
+	public static final long PLAYER2_FINISHED = mix(8L << KIND_SHIFT);
+
+	private Zobrist() {
+	}
+
+	public static long playerAt(final Game.PlayerIdentifier player, final long cellIndex) {
+		return mix(((player == Game.PlayerIdentifier.P1) ? PLAYER1_AT : PLAYER2_AT) | cellIndex);
+	}
+
+	// Every points total has its own key, so positions only match when both totals do
+	public static long points(final Game.PlayerIdentifier player, final int points) {
+		return mix(((player == Game.PlayerIdentifier.P1) ? PLAYER1_POINTS : PLAYER2_POINTS) | (points & 0xFFFFFFFFL));
+	}
+
+	public static long bonusAt(final long cellIndex, final byte cell) {
+		return mix(BONUS_AT | (cellIndex << 7) | CellGrid.bonusCode(cell));
+	}
+
+	// Key of everything in a cell that the hash covers, 0 for cells without a bonus
+	public static long cell(final long cellIndex, final byte cell) {
+		return CellGrid.isBonus(cell) ? bonusAt(cellIndex, cell) : 0;
+	}
+
+	// SplitMix64 finalizer
+	private static long mix(long value) {
+		value += 0x9E3779B97F4A7C15L;
+		value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+		value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+
+		return value ^ (value >>> 31);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,168 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BitboardTest {
+	private static final int[][] STEPS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+
+	@Test
+	public void floodFillMatchesBreadthFirstSearchOnRandomBoards() {
+		final Random random = new Random(5);
+
+		for (int boardIndex = 0; boardIndex < 300; boardIndex++) {
+			final int rows = 1 + random.nextInt(80);
+			final int columns = 1 + random.nextInt(200); // Crosses the 64 and 128 column word boundaries
+			final Bitboard board = new Bitboard(rows, columns);
+			final double openShare = random.nextDouble();
+
+			for (int y = 0; y < rows; y++) {
+				for (int x = 0; x < columns; x++) {
+					board.set(x, y, random.nextDouble() < openShare);
+				}
+			}
+
+			assertFloodFill("Board " + boardIndex, board, random.nextInt(columns), random.nextInt(rows));
+		}
+	}
+
+	@Test
+	public void floodFillMatchesBreadthFirstSearchOnMazes() {
+		final String[] algorithms = MazeAlgorithm.names();
+
+		for (int mazeIndex = 0; mazeIndex < 50; mazeIndex++) {
+			final MazeGenerator generator = new MazeGenerator(21 + mazeIndex, 61 + 3 * mazeIndex, mazeIndex,
+					MazeAlgorithm.byName(algorithms[mazeIndex % algorithms.length]));
+			generator.generate();
+
+			final Bitboard board = Bitboard.passable(generator.getGrid());
+
+			assertFloodFill("Maze " + mazeIndex, board, 0, 0);
+			assertFloodFill("Maze " + mazeIndex, board, board.getColumns() / 2, board.getRows() / 2);
+		}
+	}
+
+	@Test
+	public void floodFillFromAWallIsEmpty() {
+		final Bitboard board = new Bitboard(3, 3);
+
+		board.set(0, 0, true);
+
+		assertEquals(0, board.floodFill(1, 1).count());
+		assertTrue(board.isReachable(0, 0, 0, 0));
+	}
+
+	@Test
+	public void passableMazesMatchPassableCells() {
+		for (int mazeIndex = 0; mazeIndex < 20; mazeIndex++) {
+			final MazeGenerator generator = new MazeGenerator(15 + mazeIndex, 50 + 7 * mazeIndex, mazeIndex);
+			generator.generate();
+
+			final CellGrid cells = new CellGrid(generator.getRows(), generator.getColumns());
+			cells.addWalls(generator.getGrid());
+
+			final Bitboard fromMaze = Bitboard.passable(generator.getGrid());
+			final Bitboard fromCells = Bitboard.passable(cells);
+
+			for (int y = 0; y < fromMaze.getRows(); y++) {
+				for (int wordInRow = 0; wordInRow < fromMaze.getWordsPerRow(); wordInRow++) {
+					assertEquals("Maze " + mazeIndex + ", row " + y, fromCells.getWord(y, wordInRow),
+							fromMaze.getWord(y, wordInRow));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void deadEndsHaveAtMostOneOpenNeighbour() {
+		final Random random = new Random(9);
+
+		for (int boardIndex = 0; boardIndex < 100; boardIndex++) {
+			final int rows = 1 + random.nextInt(40);
+			final int columns = 1 + random.nextInt(150);
+			final Bitboard board = new Bitboard(rows, columns);
+
+			for (int y = 0; y < rows; y++) {
+				for (int x = 0; x < columns; x++) {
+					board.set(x, y, random.nextInt(3) != 0);
+				}
+			}
+
+			final Bitboard deadEnds = board.deadEnds();
+
+			for (int y = 0; y < rows; y++) {
+				for (int x = 0; x < columns; x++) {
+					final boolean isDeadEnd = board.get(x, y) && openNeighbours(board, x, y) <= 1;
+
+					assertEquals("Board " + boardIndex + " at " + x + ", " + y, isDeadEnd, deadEnds.get(x, y));
+				}
+			}
+		}
+	}
+
+	private static void assertFloodFill(final String message, final Bitboard board, final int x, final int y) {
+		final boolean[][] expected = breadthFirstSearch(board, x, y);
+		final Bitboard reached = board.floodFill(x, y);
+		long expectedCount = 0;
+
+		for (int rowIndex = 0; rowIndex < board.getRows(); rowIndex++) {
+			for (int columnIndex = 0; columnIndex < board.getColumns(); columnIndex++) {
+				assertEquals(message + " from " + x + ", " + y + " at " + columnIndex + ", " + rowIndex,
+						expected[rowIndex][columnIndex], reached.get(columnIndex, rowIndex));
+
+				expectedCount += expected[rowIndex][columnIndex] ? 1 : 0;
+			}
+		}
+
+		assertEquals(message, expectedCount, reached.count());
+	}
+
+	// Cell by cell reference
+	private static boolean[][] breadthFirstSearch(final Bitboard board, final int x, final int y) {
+		final boolean[][] reached = new boolean[board.getRows()][board.getColumns()];
+		final ArrayDeque<int[]> queue = new ArrayDeque<>();
+
+		if (!board.get(x, y)) {
+			return reached;
+		}
+
+		reached[y][x] = true;
+		queue.add(new int[] { x, y });
+
+		while (!queue.isEmpty()) {
+			final int[] cell = queue.poll();
+
+			for (final int[] step : STEPS) {
+				final int nextX = cell[0] + step[0];
+				final int nextY = cell[1] + step[1];
+
+				if (nextX >= 0 && nextY >= 0 && nextX < board.getColumns() && nextY < board.getRows()
+						&& board.get(nextX, nextY) && !reached[nextY][nextX]) {
+					reached[nextY][nextX] = true;
+					queue.add(new int[] { nextX, nextY });
+				}
+			}
+		}
+
+		return reached;
+	}
+
+	private static int openNeighbours(final Bitboard board, final int x, final int y) {
+		int count = 0;
+
+		for (final int[] step : STEPS) {
+			final int nextX = x + step[0];
+			final int nextY = y + step[1];
+
+			if (nextX >= 0 && nextY >= 0 && nextX < board.getColumns() && nextY < board.getRows()
+					&& board.get(nextX, nextY)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,213 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class BonusIndexTest {
+	@Test
+	public void countInRegionMatchesBruteForce() {
+		final Random random = new Random(3);
+
+		for (int boardIndex = 0; boardIndex < 100; boardIndex++) {
+			final BonusIndex bonuses = randomIndex(random, 1 + random.nextInt(40), 1 + random.nextInt(200));
+
+			for (int query = 0; query < 50; query++) {
+				// Regions may start before the board and reach past it, or be empty
+				final int x = random.nextInt(bonuses.getColumns() + 20) - 10;
+				final int y = random.nextInt(bonuses.getRows() + 20) - 10;
+				final int columns = random.nextInt(bonuses.getColumns() + 20) - 5;
+				final int rows = random.nextInt(bonuses.getRows() + 20) - 5;
+
+				assertEquals("Board " + boardIndex + ", " + columns + " by " + rows + " at " + x + ", " + y,
+						countInRegion(bonuses, x, y, columns, rows), bonuses.countInRegion(x, y, columns, rows));
+			}
+
+			assertEquals(bonuses.getCount(), bonuses.countInRegion(0, 0, bonuses.getColumns(), bonuses.getRows()));
+			assertEquals(bonuses.getCount(), bonuses.countInRegion(-5, -5, Integer.MAX_VALUE / 2,
+					Integer.MAX_VALUE / 2));
+		}
+	}
+
+	@Test
+	public void nearestMatchesBruteForce() {
+		final Random random = new Random(4);
+
+		for (int boardIndex = 0; boardIndex < 100; boardIndex++) {
+			final BonusIndex bonuses = randomIndex(random, 1 + random.nextInt(40), 1 + random.nextInt(200));
+
+			for (int query = 0; query < 50; query++) {
+				final int x = random.nextInt(bonuses.getColumns());
+				final int y = random.nextInt(bonuses.getRows());
+
+				assertNearest("Board " + boardIndex + " from " + x + ", " + y, bonuses, x, y);
+			}
+		}
+	}
+
+	@Test
+	public void nearestSkipsEmptyRows() {
+		final BonusIndex bonuses = new BonusIndex(30, 150, GridStorage.Backend.Heap);
+
+		bonuses.add(index(bonuses, 140, 0));
+		bonuses.add(index(bonuses, 3, 29));
+
+		assertEquals(PackedCordinate.pack(3, 29), bonuses.nearest(10, 20));
+		assertEquals(PackedCordinate.pack(140, 0), bonuses.nearest(149, 12));
+		assertEquals(0, bonuses.countInRegion(0, 1, 150, 28));
+	}
+
+	@Test
+	public void nearestBreaksTiesAcrossWordBoundaries() {
+		final BonusIndex bonuses = new BonusIndex(5, 200, GridStorage.Backend.Heap);
+
+		bonuses.add(index(bonuses, 63, 2)); // Last cell of the row's first word
+		bonuses.add(index(bonuses, 65, 2)); // Second cell of its next word
+
+		final long nearest = bonuses.nearest(64, 2);
+
+		assertTrue(nearest == PackedCordinate.pack(63, 2) || nearest == PackedCordinate.pack(65, 2));
+
+		bonuses.add(index(bonuses, 64, 0));
+		bonuses.add(index(bonuses, 64, 4));
+
+		assertNearest("Four ties", bonuses, 64, 2);
+		assertNearest("Across words below", bonuses, 127, 3);
+		assertNearest("Across words above", bonuses, 0, 1);
+	}
+
+	@Test
+	public void nearestOnAnEmptyIndexIsNone() {
+		final BonusIndex bonuses = new BonusIndex(9, 9, GridStorage.Backend.Heap);
+
+		assertEquals(-1, bonuses.nearest(4, 4));
+
+		bonuses.add(index(bonuses, 8, 8));
+		bonuses.remove(index(bonuses, 8, 8));
+
+		assertEquals(-1, bonuses.nearest(4, 4));
+		assertEquals(0, bonuses.getCount());
+	}
+
+	@Test
+	public void bitGridQueriesMatchBruteForce() {
+		final Random random = new Random(6);
+
+		for (int gridIndex = 0; gridIndex < 100; gridIndex++) {
+			final BitGrid grid = new BitGrid(1 + random.nextInt(10), 1 + random.nextInt(150));
+			final long cellCount = (long) grid.getRows() * grid.getColumns();
+			final int density = 1 + random.nextInt(20); // 1 in density cells set, sparse grids leave whole words clear
+
+			for (long cellIndex = 0; cellIndex < cellCount; cellIndex++) {
+				grid.set(cellIndex, random.nextInt(density) == 0);
+			}
+
+			for (int query = 0; query < 100; query++) {
+				final long from = random.nextInt((int) cellCount + 1);
+				final long to = random.nextInt((int) cellCount + 1);
+				final String message = "Grid " + gridIndex + " from " + from + " to " + to;
+
+				assertEquals(message, countSet(grid, from, to), grid.countSet(from, to));
+				assertEquals(message, nextSet(grid, from, to), grid.nextSet(from, to));
+
+				if (from < cellCount) {
+					assertEquals(message, previousSet(grid, from, to), grid.previousSet(from, to));
+				}
+			}
+		}
+	}
+
+	private static BonusIndex randomIndex(final Random random, final int rows, final int columns) {
+		final BonusIndex bonuses = new BonusIndex(rows, columns, GridStorage.Backend.Heap);
+		final int density = 1 + random.nextInt(100); // Sparse boards leave whole rows empty
+
+		for (int y = 0; y < rows; y++) {
+			for (int x = 0; x < columns; x++) {
+				if (random.nextInt(density) == 0) {
+					bonuses.add(index(bonuses, x, y));
+				}
+			}
+		}
+
+		return bonuses;
+	}
+
+	private static long index(final BonusIndex bonuses, final int x, final int y) {
+		return (long) y * bonuses.getColumns() + x;
+	}
+
+	private static long countInRegion(final BonusIndex bonuses, final int x, final int y, final int columns,
+			final int rows) {
+		long count = 0;
+
+		for (int rowIndex = 0; rowIndex < bonuses.getRows(); rowIndex++) {
+			for (int columnIndex = 0; columnIndex < bonuses.getColumns(); columnIndex++) {
+				if (columnIndex >= x && columnIndex < (long) x + columns && rowIndex >= y
+						&& rowIndex < (long) y + rows && bonuses.contains(columnIndex, rowIndex)) {
+					count++;
+				}
+			}
+		}
+
+		return count;
+	}
+
+	// The result must be a bonus at the smallest row plus column distance, any of them when several tie
+	private static void assertNearest(final String message, final BonusIndex bonuses, final int x, final int y) {
+		long nearestDistance = -1;
+
+		for (int rowIndex = 0; rowIndex < bonuses.getRows(); rowIndex++) {
+			for (int columnIndex = 0; columnIndex < bonuses.getColumns(); columnIndex++) {
+				final long distance = Math.abs(rowIndex - y) + Math.abs(columnIndex - x);
+
+				if (bonuses.contains(columnIndex, rowIndex) && (nearestDistance < 0 || distance < nearestDistance)) {
+					nearestDistance = distance;
+				}
+			}
+		}
+
+		final long nearest = bonuses.nearest(x, y);
+
+		if (nearestDistance < 0) {
+			assertEquals(message, -1, nearest);
+			return;
+		}
+
+		final int nearestX = PackedCordinate.x(nearest);
+		final int nearestY = PackedCordinate.y(nearest);
+
+		assertTrue(message, bonuses.contains(nearestX, nearestY));
+		assertEquals(message, nearestDistance, Math.abs(nearestY - y) + Math.abs(nearestX - x));
+	}
+
+	private static long countSet(final BitGrid grid, final long from, final long to) {
+		long count = 0;
+
+		for (long cellIndex = from; cellIndex < to; cellIndex++) {
+			count += grid.get(cellIndex) ? 1 : 0;
+		}
+
+		return count;
+	}
+
+	private static long nextSet(final BitGrid grid, final long from, final long to) {
+		for (long cellIndex = from; cellIndex < to; cellIndex++) {
+			if (grid.get(cellIndex)) {
+				return cellIndex;
+			}
+		}
+
+		return -1;
+	}
+
+	private static long previousSet(final BitGrid grid, final long from, final long to) {
+		for (long cellIndex = from; cellIndex >= to; cellIndex--) {
+			if (grid.get(cellIndex)) {
+				return cellIndex;
+			}
+		}
+
+		return -1;
+	}
+}
\ No newline at end of file
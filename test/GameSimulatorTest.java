@@ -0,0 +1,111 @@
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class GameSimulatorTest {
+	private static final long GAMES = 3 * GameSimulator.GAMES_PER_TASK + 5; // Split over several tasks
+
+	@Test
+	public void runGivesTheSameResultsOnAnyThreadCount() {
+		final GameSimulator simulator = newSimulator();
+
+		assertSameResults(run(simulator, 1), run(simulator, 4));
+	}
+
+	@Test
+	public void mergedResultsMatchGamesPlayedInOrder() {
+		final GameSimulator simulator = newSimulator();
+		final GameSimulator.Results inOrder = new GameSimulator.Results();
+
+		for (long gameIndex = 0; gameIndex < GAMES; gameIndex++) {
+			simulator.play(42 + gameIndex, inOrder);
+		}
+
+		assertSameResults(inOrder, run(simulator, 4));
+	}
+
+	@Test
+	public void everyGameIsCountedOnce() {
+		final GameSimulator.Results results = run(newSimulator(), 2);
+		long lengthTotal = 0;
+
+		assertEquals(GAMES, results.getGames());
+		assertEquals(GAMES, results.getWins(Game.PlayerIdentifier.P1) + results.getWins(Game.PlayerIdentifier.P2)
+				+ results.getDraws() + results.getUnfinished());
+
+		for (int bucket = 0; bucket < GameSimulator.LENGTH_BUCKETS; bucket++) {
+			lengthTotal += results.getLengthBucket(bucket);
+		}
+
+		assertEquals(GAMES, lengthTotal);
+
+		for (final Game.PlayerIdentifier player : new Game.PlayerIdentifier[] { Game.PlayerIdentifier.P1,
+				Game.PlayerIdentifier.P2 }) {
+			long pointsTotal = 0;
+
+			for (int points = GameSimulator.POINTS_HISTOGRAM_MIN; points <= GameSimulator.POINTS_HISTOGRAM_MAX;
+					points += GameSimulator.POINTS_BUCKET_WIDTH) {
+				pointsTotal += results.getPointsCount(player, points);
+			}
+
+			assertEquals(GAMES, pointsTotal); // Points past the ends are counted in the end buckets
+		}
+	}
+
+	@Test
+	public void pointsPastTheHistogramFallInItsEndBuckets() {
+		final GameSimulator.Results results = run(newSimulator(), 1);
+
+		assertEquals(results.getPointsCount(Game.PlayerIdentifier.P1, GameSimulator.POINTS_HISTOGRAM_MIN),
+				results.getPointsCount(Game.PlayerIdentifier.P1, Integer.MIN_VALUE));
+		assertEquals(results.getPointsCount(Game.PlayerIdentifier.P2, GameSimulator.POINTS_HISTOGRAM_MAX),
+				results.getPointsCount(Game.PlayerIdentifier.P2, Integer.MAX_VALUE));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void aMoveLimitBelowOneIsRejected() {
+		new GameSimulator(9, 9, () -> MovePolicy.byName(GreedyMovePolicy.NAME),
+				() -> MovePolicy.byName(GreedyMovePolicy.NAME), 0);
+	}
+
+	private static GameSimulator newSimulator() {
+		return new GameSimulator(11, 13, () -> MovePolicy.byName(GreedyMovePolicy.NAME),
+				() -> MovePolicy.byName(RandomMovePolicy.NAME), 500);
+	}
+
+	private static GameSimulator.Results run(final GameSimulator simulator, final int threads) {
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+
+		try {
+			return simulator.run(42, GAMES, pool);
+		}
+
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	private static void assertSameResults(final GameSimulator.Results expected, final GameSimulator.Results actual) {
+		assertEquals(expected.getGames(), actual.getGames());
+		assertEquals(expected.getDraws(), actual.getDraws());
+		assertEquals(expected.getUnfinished(), actual.getUnfinished());
+		assertEquals(expected.getAverageLength(), actual.getAverageLength(), 0);
+
+		for (final Game.PlayerIdentifier player : new Game.PlayerIdentifier[] { Game.PlayerIdentifier.P1,
+				Game.PlayerIdentifier.P2 }) {
+			assertEquals(player + " wins", expected.getWins(player), actual.getWins(player));
+
+			for (int points = GameSimulator.POINTS_HISTOGRAM_MIN; points <= GameSimulator.POINTS_HISTOGRAM_MAX;
+					points += GameSimulator.POINTS_BUCKET_WIDTH) {
+				assertEquals(player + " points " + points, expected.getPointsCount(player, points),
+						actual.getPointsCount(player, points));
+			}
+		}
+
+		for (int bucket = 0; bucket < GameSimulator.LENGTH_BUCKETS; bucket++) {
+			assertEquals("Length bucket " + bucket, expected.getLengthBucket(bucket), actual.getLengthBucket(bucket));
+		}
+	}
+}
\ No newline at end of file
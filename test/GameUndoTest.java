@@ -0,0 +1,116 @@
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class GameUndoTest {
+	private static final int MAX_MOVES = 400;
+
+	@Test
+	public void unmakeRestoresEveryPosition() {
+		for (long seed = 0; seed < 60; seed++) {
+			assertRoundTrip(seed, 0);
+		}
+	}
+
+	@Test
+	public void unmakeRestoresMovesABoundedHistoryDropped() {
+		for (long seed = 0; seed < 60; seed++) {
+			assertRoundTrip(seed, 1 + (int) (seed % 4));
+		}
+	}
+
+	@Test
+	public void unmakeRestoresTheHashAfterEveryMove() {
+		for (long seed = 0; seed < 40; seed++) {
+			final Game game = TestGames.newGame(seed, 0);
+			final Random random = new Random(seed);
+
+			for (int moveIndex = 0; moveIndex < MAX_MOVES && game.getIsRunning(); moveIndex++) {
+				final long hashBefore = game.getZobristHash();
+				final int move = TestGames.randomMove(game, random);
+
+				if (move == 0) {
+					break;
+				}
+
+				game.applyMove(move);
+				game.unmakeMove();
+
+				assertEquals("Seed " + seed + ", move " + moveIndex, hashBefore, game.getZobristHash());
+
+				game.applyMove(move);
+			}
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void unmakeWithoutMovesFails() {
+		TestGames.newGame(1, 0).unmakeMove();
+	}
+
+	// Plays random moves, then takes every one of them back, comparing each position on the way back
+	private static void assertRoundTrip(final long seed, final int historyLimit) {
+		final Game game = TestGames.newGame(seed, historyLimit);
+		final Random random = new Random(seed);
+		final List<String> positions = new ArrayList<>();
+		final List<Long> hashes = new ArrayList<>();
+		final List<Integer> moves = new ArrayList<>();
+
+		while (game.getIsRunning() && moves.size() < MAX_MOVES) {
+			final int move = TestGames.randomMove(game, random);
+
+			if (move == 0) {
+				break;
+			}
+
+			positions.add(describe(game));
+			hashes.add(game.getZobristHash());
+			moves.add(move);
+			game.applyMove(move);
+		}
+
+		final String finalPosition = describe(game);
+
+		assertEquals(moves.size(), game.getUndoDepth());
+
+		for (int moveIndex = moves.size() - 1; moveIndex >= 0; moveIndex--) {
+			game.unmakeMove();
+
+			assertEquals("Seed " + seed + ", move " + moveIndex, positions.get(moveIndex), describe(game));
+			assertEquals("Seed " + seed + ", move " + moveIndex, (long) hashes.get(moveIndex), game.getZobristHash());
+		}
+
+		for (final int move : moves) {
+			game.applyMove(move);
+		}
+
+		assertEquals("Seed " + seed + " replayed", finalPosition, describe(game));
+	}
+
+	private static String describe(final Game game) {
+		final StringBuilder description = new StringBuilder(game.toString());
+		final CellGrid cells = game.getCells();
+		final MoveHistory history = game.getMoveHistory();
+
+		description.append(game.getTurn()).append(' ').append(game.getWinner()).append(' ')
+				.append(game.getIsRunning()).append(' ').append(game.getMoveCount()).append(' ')
+				.append(game.getPoints(Game.PlayerIdentifier.P1)).append(' ')
+				.append(game.getPoints(Game.PlayerIdentifier.P2));
+
+		for (long wordIndex = 0; wordIndex < cells.getWordCount(); wordIndex++) {
+			description.append(' ').append(Long.toHexString(cells.getWord(wordIndex)));
+		}
+
+		description.append(" history of ").append(history.getAddedCount());
+
+		for (int moveIndex = 0; moveIndex < history.size(); moveIndex++) {
+			description.append(' ').append(history.get(moveIndex));
+		}
+
+		return description.toString();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class MazeGeneratorTest {
+	private static final int[][] STEPS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+	private static final int[][] SIZES = { { 3, 3 }, { 5, 9 }, { 9, 5 }, { 12, 12 }, { 21, 41 }, { 40, 17 },
+			{ 3, 200 }, { 200, 3 }, { 64, 65 }, { 101, 99 } };
+
+	@Test
+	public void iterativeMatchesRecursiveOnFixedSeeds() {
+		for (final int[] size : SIZES) {
+			for (long seed = 0; seed < 50; seed++) {
+				final MazeGenerator recursive = new MazeGenerator(size[0], size[1], seed);
+				final MazeGenerator iterative = new MazeGenerator(size[0], size[1], seed);
+
+				recursive.generateRecursive();
+				iterative.generateIterative();
+
+				assertSameMaze(size[0] + " by " + size[1] + ", seed " + seed, recursive, iterative);
+			}
+		}
+	}
+
+	@Test
+	public void iterativeMazesConnectEveryOpenCellLikeRecursiveOnes() {
+		final Random random = new Random(1);
+
+		for (int mazeIndex = 0; mazeIndex < 200; mazeIndex++) {
+			final int rows = 1 + random.nextInt(60);
+			final int columns = 1 + random.nextInt(60);
+			final MazeGenerator recursive = new MazeGenerator(rows, columns);
+			final MazeGenerator iterative = new MazeGenerator(rows, columns);
+
+			recursive.generateRecursive();
+			iterative.generateIterative();
+
+			assertEquals(rows + " by " + columns + " recursive", 1, regionCount(recursive));
+			assertEquals(rows + " by " + columns + " iterative", 1, regionCount(iterative));
+		}
+	}
+
+	@Test
+	public void iterativeDividesTheMaze() {
+		final MazeGenerator generator = new MazeGenerator(31, 47);
+
+		generator.generateIterative();
+
+		assertTrue(generator.getGrid().countSet() > 0);
+		assertTrue(generator.getGrid().countSet() < 31L * 47);
+	}
+
+	@Test
+	public void iterativeHandlesLongThinMazes() {
+		final MazeGenerator generator = new MazeGenerator(4, 1_000_000); // Far deeper than the recursion could go
+
+		generator.generateIterative();
+
+		assertTrue(generator.getGrid().countSet() > 0);
+	}
+
+	private static void assertSameMaze(final String message, final MazeGenerator expected,
+			final MazeGenerator actual) {
+		for (int y = 0; y < expected.getRows(); y++) {
+			for (int x = 0; x < expected.getColumns(); x++) {
+				assertEquals(message + " at " + x + ", " + y, expected.isBlock(x, y), actual.isBlock(x, y));
+			}
+		}
+	}
+
+	// Groups of Blank cells connected to each other, found by breadth-first search
+	private static int regionCount(final MazeGenerator maze) {
+		final boolean[][] reached = new boolean[maze.getRows()][maze.getColumns()];
+		final ArrayDeque<int[]> queue = new ArrayDeque<>();
+		int regions = 0;
+
+		for (int y = 0; y < maze.getRows(); y++) {
+			for (int x = 0; x < maze.getColumns(); x++) {
+				if (maze.isBlock(x, y) || reached[y][x]) {
+					continue;
+				}
+
+				regions++;
+				reached[y][x] = true;
+				queue.add(new int[] { x, y });
+
+				while (!queue.isEmpty()) {
+					final int[] cell = queue.poll();
+
+					for (final int[] step : STEPS) {
+						final int nextX = cell[0] + step[0];
+						final int nextY = cell[1] + step[1];
+
+						if (maze.inBounds(nextX, nextY) && !maze.isBlock(nextX, nextY) && !reached[nextY][nextX]) {
+							reached[nextY][nextX] = true;
+							queue.add(new int[] { nextX, nextY });
+						}
+					}
+				}
+			}
+		}
+
+		return regions;
+	}
+}
\ No newline at end of file
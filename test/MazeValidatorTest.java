@@ -0,0 +1,175 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class MazeValidatorTest {
+	private static final int[][] STEPS = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+
+	@Test
+	public void matchesBruteForceOnRandomBoards() {
+		final Random random = new Random(9);
+
+		for (int boardIndex = 0; boardIndex < 300; boardIndex++) {
+			final CellGrid cells = new CellGrid(1 + random.nextInt(60), 1 + random.nextInt(150));
+			final double wallShare = random.nextDouble();
+
+			for (long cellIndex = 0; cellIndex < cells.getCellCount(); cellIndex++) {
+				cells.set(cellIndex, (random.nextDouble() < wallShare) ? CellGrid.WALL : CellGrid.EMPTY);
+			}
+
+			assertMatchesBruteForce("Board " + boardIndex, cells, MazeValidator.validate(cells));
+		}
+	}
+
+	@Test
+	public void matchesBruteForceOnMazes() {
+		final String[] algorithms = MazeAlgorithm.names();
+
+		for (int mazeIndex = 0; mazeIndex < 60; mazeIndex++) {
+			final MazeGenerator generator = new MazeGenerator(5 + mazeIndex, 9 + 2 * mazeIndex, mazeIndex,
+					MazeAlgorithm.byName(algorithms[mazeIndex % algorithms.length]));
+			generator.generate();
+
+			assertMatchesBruteForce("Maze " + mazeIndex, cellsOf(generator), MazeValidator.validate(generator));
+		}
+	}
+
+	@Test
+	public void matchesBruteForceWhileStreaming() {
+		for (long seed = 0; seed < 20; seed++) {
+			final int rows = 11 + (int) seed;
+			final int columns = 70 + 5 * (int) seed;
+			final StreamingMazeGenerator generator = new StreamingMazeGenerator(rows, columns, seed);
+			final MazeValidator validator = new MazeValidator(rows, columns);
+			final CellGrid cells = new CellGrid(rows, columns);
+
+			generator.generate((rowIndex, blockBits) -> {
+				validator.acceptRow(rowIndex, blockBits);
+
+				for (int x = 0; x < columns; x++) {
+					final boolean isBlock = StreamingMazeGenerator.isBlock(blockBits, x);
+
+					cells.set(x, rowIndex, isBlock ? CellGrid.WALL : CellGrid.EMPTY);
+				}
+			});
+
+			assertMatchesBruteForce("Seed " + seed, cells, validator);
+		}
+	}
+
+	@Test
+	public void parallelResultsMatchSequentialOnes() {
+		final ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			final MazeValidator[] results = MazeValidator.validateGenerated(21, 31, RecursiveDivisionAlgorithm.NAME,
+					100, 40, pool);
+
+			for (int mazeIndex = 0; mazeIndex < results.length; mazeIndex++) {
+				final MazeGenerator generator = new MazeGenerator(21, 31, 100 + mazeIndex);
+				generator.generate();
+
+				assertMatchesBruteForce("Maze " + mazeIndex, cellsOf(generator), results[mazeIndex]);
+			}
+		}
+
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void isIncompleteUntilTheLastRow() {
+		final MazeValidator validator = new MazeValidator(2, 3);
+
+		validator.acceptRow(0, new long[] { 0 });
+
+		assertFalse(validator.getIsComplete());
+
+		validator.acceptRow(1, new long[] { 0 });
+
+		assertTrue(validator.getIsComplete());
+		assertTrue(validator.getCornersConnected());
+		assertEquals(2, validator.getLoopCount()); // Two rows of three open cells hold two squares
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rowsOutOfOrderAreRejected() {
+		new MazeValidator(3, 3).acceptRow(1, new long[] { 0 });
+	}
+
+	private static void assertMatchesBruteForce(final String message, final CellGrid cells,
+			final MazeValidator validator) {
+		final int rows = cells.getRows();
+		final int columns = cells.getColumns();
+		final int[] regions = new int[rows * columns];
+		long openCells = 0;
+		long passages = 0;
+		int regionCount = 0;
+
+		for (int y = 0; y < rows; y++) {
+			for (int x = 0; x < columns; x++) {
+				if (!isOpen(cells, x, y)) {
+					continue;
+				}
+
+				openCells++;
+				passages += (isOpen(cells, x + 1, y) ? 1 : 0) + (isOpen(cells, x, y + 1) ? 1 : 0);
+
+				if (regions[y * columns + x] == 0) {
+					fillRegion(cells, x, y, ++regionCount, regions);
+				}
+			}
+		}
+
+		final boolean cornersConnected = isOpen(cells, 0, 0) && regions[0] == regions[rows * columns - 1];
+
+		assertTrue(message, validator.getIsComplete());
+		assertEquals(message + ", open cells", openCells, validator.getOpenCells());
+		assertEquals(message + ", regions", regionCount, validator.getRegionCount());
+		assertEquals(message + ", loops", passages - openCells + regionCount, validator.getLoopCount());
+		assertEquals(message + ", corners", cornersConnected, validator.getCornersConnected());
+		assertEquals(message + ", perfect", passages == openCells - 1 && regionCount == 1, validator.getIsPerfect());
+	}
+
+	private static boolean isOpen(final CellGrid cells, final int x, final int y) {
+		return x >= 0 && y >= 0 && x < cells.getColumns() && y < cells.getRows() && cells.get(x, y) != CellGrid.WALL;
+	}
+
+	// Breadth-first search labelling every cell connected to x, y
+	private static void fillRegion(final CellGrid cells, final int x, final int y, final int region,
+			final int[] regions) {
+		final ArrayDeque<int[]> queue = new ArrayDeque<>();
+
+		regions[y * cells.getColumns() + x] = region;
+		queue.add(new int[] { x, y });
+
+		while (!queue.isEmpty()) {
+			final int[] cell = queue.poll();
+
+			for (final int[] step : STEPS) {
+				final int nextX = cell[0] + step[0];
+				final int nextY = cell[1] + step[1];
+
+				if (isOpen(cells, nextX, nextY) && regions[nextY * cells.getColumns() + nextX] == 0) {
+					regions[nextY * cells.getColumns() + nextX] = region;
+					queue.add(new int[] { nextX, nextY });
+				}
+			}
+		}
+	}
+
+	private static CellGrid cellsOf(final MazeGenerator generator) {
+		final CellGrid cells = new CellGrid(generator.getRows(), generator.getColumns());
+
+		cells.addWalls(generator.getGrid());
+
+		return cells;
+	}
+}
\ No newline at end of file
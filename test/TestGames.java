@@ -0,0 +1,38 @@
+import java.util.Random;
+
+// Seeded games and random legal moves shared by the tests that play games
+final class TestGames {
+	private TestGames() {
+	}
+
+	// A small board whose size varies with the seed, initialized with undo enabled
+	static Game newGame(final long seed, final int historyLimit) {
+		final Game game = new Game(7 + (int) (seed % 6) * 2, 7 + (int) (seed % 5) * 2, seed);
+
+		game.setMoveHistoryLimit(historyLimit);
+		game.initialize();
+		game.setUndoEnabled(true);
+
+		return game;
+	}
+
+	// A legal move, mostly a step rather than a waste, 0 when there is none
+	static int randomMove(final Game game, final Random random) {
+		final int moveMask = game.viableMoveMask();
+		final int steps = moveMask & ~Game.MOVE_WASTE;
+
+		if (moveMask == 0) {
+			return 0;
+		}
+
+		final int candidates = (steps != 0 && random.nextInt(4) != 0) ? steps : moveMask;
+		int move;
+
+		do {
+			move = 1 << random.nextInt(5);
+		}
+		while ((candidates & move) == 0);
+
+		return move;
+	}
+}
\ No newline at end of file
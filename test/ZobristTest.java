@@ -0,0 +1,205 @@
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ZobristTest {
+	@Test
+	public void incrementalHashMatchesRecomputation() {
+		for (long seed = 0; seed < 60; seed++) {
+			final Game game = TestGames.newGame(seed, 0);
+			final Random random = new Random(seed);
+
+			assertEquals("Seed " + seed + " at the start", recomputeHash(game), game.getZobristHash());
+
+			for (int moveIndex = 0; moveIndex < 300 && game.getIsRunning(); moveIndex++) {
+				final int move = TestGames.randomMove(game, random);
+
+				if (move == 0) {
+					break;
+				}
+
+				game.applyMove(move);
+
+				if (random.nextInt(4) == 0) {
+					game.unmakeMove();
+				}
+
+				assertEquals("Seed " + seed + ", move " + moveIndex, recomputeHash(game), game.getZobristHash());
+			}
+		}
+	}
+
+	@Test
+	public void equalPositionsHaveEqualHashes() {
+		long revisits = 0;
+
+		for (long seed = 0; seed < 40; seed++) {
+			final Game game = TestGames.newGame(seed, 0);
+			final Random random = new Random(seed);
+			final Map<String, Long> hashes = new HashMap<>();
+			final Map<Long, String> positions = new HashMap<>();
+
+			for (int moveIndex = 0; moveIndex < 300 && game.getIsRunning(); moveIndex++) {
+				final String position = describe(game);
+				final Long hash = game.getZobristHash();
+				final Long earlierHash = hashes.putIfAbsent(position, hash);
+				final String earlierPosition = positions.putIfAbsent(hash, position);
+
+				if (earlierHash != null) {
+					assertEquals("Seed " + seed + ", move " + moveIndex, earlierHash, hash);
+					revisits++;
+				}
+
+				if (earlierPosition != null) {
+					assertEquals("Seed " + seed + ", move " + moveIndex, earlierPosition, position);
+				}
+
+				final int move = TestGames.randomMove(game, random);
+
+				if (move == 0) {
+					break;
+				}
+
+				game.applyMove(move);
+			}
+		}
+
+		assertTrue(revisits > 0); // Walking back and forth over empty cells comes back to earlier positions
+	}
+
+	@Test
+	public void copiesHashLikeTheOriginal() {
+		final Game game = TestGames.newGame(5, 0);
+		final Random random = new Random(5);
+
+		for (int moveIndex = 0; moveIndex < 20; moveIndex++) {
+			game.applyMove(TestGames.randomMove(game, random));
+		}
+
+		assertEquals(game.getZobristHash(), new Game(game).getZobristHash());
+	}
+
+	@Test
+	public void storedEntriesProbeBack() {
+		final TranspositionTable table = new TranspositionTable(1 << 12);
+		final long key = 0x123456789ABCDEF1L;
+
+		table.store(key, 7, -4321, TranspositionTable.BOUND_LOWER, Game.MOVE_WEST);
+
+		final long data = table.probe(key);
+
+		assertNotEquals(TranspositionTable.MISS, data);
+		assertEquals(-4321, TranspositionTable.value(data));
+		assertEquals(7, TranspositionTable.depth(data));
+		assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(data));
+		assertEquals(Game.MOVE_WEST, TranspositionTable.bestMove(data));
+	}
+
+	@Test
+	public void otherKeysOfTheSameSlotMiss() {
+		final TranspositionTable table = new TranspositionTable(1 << 12);
+		final long key = 0x42;
+
+		assertEquals(TranspositionTable.MISS, table.probe(key));
+
+		table.store(key, 3, 10, TranspositionTable.BOUND_EXACT, Game.MOVE_NORTH);
+
+		assertEquals(TranspositionTable.MISS, table.probe(key + table.getEntryCount())); // Same slot, other key
+	}
+
+	@Test
+	public void deeperResultsAreKept() {
+		final TranspositionTable table = new TranspositionTable(1 << 12);
+		final long key = 99;
+
+		table.store(key, 6, 1, TranspositionTable.BOUND_EXACT, Game.MOVE_NORTH);
+		table.store(key, 2, 2, TranspositionTable.BOUND_EXACT, Game.MOVE_SOUTH);
+
+		assertEquals(1, TranspositionTable.value(table.probe(key)));
+
+		table.store(key, 6, 3, TranspositionTable.BOUND_UPPER, Game.MOVE_EAST);
+
+		assertEquals(3, TranspositionTable.value(table.probe(key)));
+
+		table.store(key + table.getEntryCount(), 1, 4, TranspositionTable.BOUND_EXACT, Game.MOVE_WEST);
+
+		assertEquals(TranspositionTable.MISS, table.probe(key)); // Another key always takes the slot
+		assertEquals(4, TranspositionTable.value(table.probe(key + table.getEntryCount())));
+	}
+
+	@Test
+	public void clearForgetsEveryEntry() {
+		final TranspositionTable table = new TranspositionTable(1 << 12);
+
+		for (long key = 1; key <= table.getEntryCount(); key++) {
+			table.store(key * 0x9E3779B97F4A7C15L, 1, (int) key, TranspositionTable.BOUND_EXACT, 0);
+		}
+
+		table.clear();
+
+		for (long key = 1; key <= table.getEntryCount(); key++) {
+			assertEquals(TranspositionTable.MISS, table.probe(key * 0x9E3779B97F4A7C15L));
+		}
+	}
+
+	@Test
+	public void sizeIsRoundedDownToAPowerOfTwo() {
+		assertEquals(256, new TranspositionTable(16 * 300).getEntryCount());
+		assertEquals(1, new TranspositionTable(0).getEntryCount());
+	}
+
+	// Game.getZobristHash() from scratch, without the bonus index: every bonus cell on the board plus the players, points, turn and flags
+	private static long recomputeHash(final Game game) {
+		final CellGrid cells = game.getCells();
+		long hash = 0;
+
+		for (long cellIndex = 0; cellIndex < cells.getCellCount(); cellIndex++) {
+			final byte cell = cells.get(cellIndex);
+
+			if (CellGrid.isBonus(cell)) {
+				hash ^= Zobrist.bonusAt(cellIndex, cell);
+			}
+		}
+
+		for (final Game.PlayerIdentifier player : new Game.PlayerIdentifier[] { Game.PlayerIdentifier.P1,
+				Game.PlayerIdentifier.P2 }) {
+			final Cordinate position = game.getPlayerPosition(player);
+
+			hash ^= Zobrist.playerAt(player, cells.index(position.getX(), position.getY()));
+			hash ^= Zobrist.points(player, game.getPoints(player));
+		}
+
+		return hash
+				^ ((game.getTurn() == Game.PlayerIdentifier.P2) ? Zobrist.PLAYER2_TURN : 0)
+				^ (game.getIsFinished(Game.PlayerIdentifier.P1) ? Zobrist.PLAYER1_FINISHED : 0)
+				^ (game.getIsFinished(Game.PlayerIdentifier.P2) ? Zobrist.PLAYER2_FINISHED : 0);
+	}
+
+	// Everything the hash covers
+	private static String describe(final Game game) {
+		final StringBuilder description = new StringBuilder();
+		final CellGrid cells = game.getCells();
+
+		description.append(game.getTurn()).append(' ')
+				.append(game.getIsFinished(Game.PlayerIdentifier.P1)).append(' ')
+				.append(game.getIsFinished(Game.PlayerIdentifier.P2)).append(' ')
+				.append(game.getPackedPlayerPosition(Game.PlayerIdentifier.P1)).append(' ')
+				.append(game.getPackedPlayerPosition(Game.PlayerIdentifier.P2)).append(' ')
+				.append(game.getPoints(Game.PlayerIdentifier.P1)).append(' ')
+				.append(game.getPoints(Game.PlayerIdentifier.P2));
+
+		for (long cellIndex = 0; cellIndex < cells.getCellCount(); cellIndex++) {
+			if (CellGrid.isBonus(cells.get(cellIndex))) {
+				description.append(' ').append(cellIndex).append(':').append(cells.get(cellIndex));
+			}
+		}
+
+		return description.toString();
+	}
+}
\ No newline at end of file